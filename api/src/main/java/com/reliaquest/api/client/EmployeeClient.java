@@ -0,0 +1,74 @@
+package com.reliaquest.api.client;
+
+import com.reliaquest.api.model.Employee;
+import com.reliaquest.api.model.EmployeeChanges;
+import com.reliaquest.api.model.EmployeePage;
+import com.reliaquest.api.model.EmployeeRequest;
+import com.reliaquest.api.model.VersionedRoster;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Consumer;
+
+/**
+ * Transport to the employee API. Every call blocks until the upstream has answered; upstream 4xx and 5xx responses
+ * surface as {@link org.springframework.web.client.HttpClientErrorException} and
+ * {@link org.springframework.web.client.HttpServerErrorException} whichever HTTP client is underneath.
+ */
+public interface EmployeeClient {
+
+    /*
+     * Headers of a page of the roster: the cursor of the next page, absent on the last one, and the roster's size.
+     */
+    String NEXT_CURSOR_HEADER = "X-Next-Cursor";
+    String TOTAL_COUNT_HEADER = "X-Total-Count";
+
+    List<Employee> fetchAll();
+
+    /**
+     * Fetches the employee list and hands each employee to {@code action}, in roster order, as soon as it has been
+     * read, so callers reducing the roster never hold all of it. Transports that cannot stream read the whole list
+     * first.
+     */
+    default void fetchEach(Consumer<Employee> action) {
+        List<Employee> employees = fetchAll();
+        if (employees != null) {
+            employees.forEach(action);
+        }
+    }
+
+    /**
+     * Fetches the employee list unless upstream confirms that the copy tagged {@code etag} is still current, in which
+     * case the result is empty. A null {@code etag} always fetches. Transports that cannot revalidate always fetch.
+     */
+    default Optional<VersionedRoster> fetchAllIfNoneMatch(String etag) {
+        return Optional.of(new VersionedRoster(fetchAll(), null));
+    }
+
+    /**
+     * Fetches up to {@code limit} employees from {@code cursor}, or the first page of the current roster for a null
+     * cursor, which like {@link #fetchAllIfNoneMatch(String)} is empty when upstream confirms that the copy tagged
+     * {@code etag} is still current. Transports that cannot page return the whole roster as a single page.
+     */
+    default Optional<EmployeePage> fetchPage(String cursor, int limit, String etag) {
+        return fetchAllIfNoneMatch(etag).map(roster -> new EmployeePage(
+                roster.employees(), roster.etag(), null, roster.employees().size()));
+    }
+
+    /**
+     * Fetches the changes made after roster version {@code version}, or empty when upstream no longer has them (or
+     * never had them) and the whole roster has to be fetched again. Transports without a change feed always return
+     * empty.
+     */
+    default Optional<EmployeeChanges> fetchChangesSince(String version) {
+        return Optional.empty();
+    }
+
+    Employee fetchById(String id);
+
+    Employee create(EmployeeRequest request);
+
+    /**
+     * Returns whether upstream deleted an employee with the given name.
+     */
+    boolean deleteByName(String name);
+}
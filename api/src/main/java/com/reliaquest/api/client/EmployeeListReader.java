@@ -0,0 +1,189 @@
+package com.reliaquest.api.client;
+
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.async.ByteArrayFeeder;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.util.TokenBuffer;
+import com.reliaquest.api.model.Employee;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.function.Consumer;
+
+/**
+ * Reads the employee API's list responses, {@code {"data": [...], "status": ...}}, one employee at a time with a
+ * {@link JsonParser}, handing each employee to a consumer as soon as its object has been read. Only the employee being
+ * read is held, so a caller that reduces the roster as it goes needs memory for its result, not for the roster.
+ *
+ * <p>Blocking transports pass the response stream to {@link #read(InputStream, Consumer)}; non-blocking ones
+ * {@link Feed feed} the body to a Jackson non-blocking parser as its buffers arrive.
+ */
+public class EmployeeListReader {
+
+    private static final String DATA_FIELD = "data";
+
+    private final ObjectMapper objectMapper;
+    private final ObjectReader employeeReader;
+
+    public EmployeeListReader(ObjectMapper objectMapper) {
+        this.objectMapper = objectMapper;
+        // tolerate fields we do not map, as the HTTP clients' own message converters do
+        this.employeeReader =
+                objectMapper.readerFor(Employee.class).without(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES);
+    }
+
+    public void read(InputStream body, Consumer<Employee> action) throws IOException {
+        try (JsonParser parser = objectMapper.getFactory().createParser(body)) {
+            new Tokens(parser, action).drain();
+        }
+    }
+
+    /**
+     * Starts a read whose input arrives in chunks; see {@link Feed}.
+     */
+    public Feed feed(Consumer<Employee> action) throws IOException {
+        return new Feed(objectMapper.getFactory().createNonBlockingByteArrayParser(), action);
+    }
+
+    /**
+     * A read fed with the body a chunk at a time. Employees are handed to the consumer from within
+     * {@link #accept(byte[], int, int)} as soon as their last byte has been fed. Not thread-safe; feed it from one
+     * thread at a time.
+     */
+    public final class Feed {
+
+        private final JsonParser parser;
+        private final ByteArrayFeeder feeder;
+        private final Tokens tokens;
+
+        private Feed(JsonParser parser, Consumer<Employee> action) {
+            this.parser = parser;
+            this.feeder = (ByteArrayFeeder) parser.getNonBlockingInputFeeder();
+            this.tokens = new Tokens(parser, action);
+        }
+
+        /**
+         * Parses the next chunk of the body. The parser reads from {@code bytes} in place, so the array must not
+         * be reused until this returns.
+         */
+        public void accept(byte[] bytes, int offset, int length) throws IOException {
+            feeder.feedInput(bytes, offset, offset + length);
+            tokens.drain();
+        }
+
+        /**
+         * Marks the end of the body, failing if it ended part way through the response.
+         */
+        public void finish() throws IOException {
+            feeder.endOfInput();
+            try {
+                tokens.drain();
+                if (!tokens.complete()) {
+                    throw new JsonParseException(parser, "Employee list response ended early");
+                }
+            } finally {
+                parser.close();
+            }
+        }
+    }
+
+    /**
+     * Walks the response's tokens, skipping everything but the elements of the top-level {@code data} array.
+     */
+    private final class Tokens {
+
+        private final JsonParser parser;
+        private final Consumer<Employee> action;
+
+        // nesting depth outside the data array's elements; 1 within the response object, 2 within the data array
+        private int depth;
+        private boolean dataNext;
+        private boolean inData;
+        private boolean started;
+
+        // the employee being buffered by a non-blocking parser, and its nesting depth
+        private TokenBuffer employee;
+        private int employeeDepth;
+
+        private Tokens(JsonParser parser, Consumer<Employee> action) {
+            this.parser = parser;
+            this.action = action;
+        }
+
+        /**
+         * Consumes tokens until the input ends or, for a non-blocking parser, until it needs more input.
+         */
+        private void drain() throws IOException {
+            JsonToken token;
+            while ((token = parser.nextToken()) != null && token != JsonToken.NOT_AVAILABLE) {
+                if (employee != null) {
+                    buffer(token);
+                } else if (inData) {
+                    element(token);
+                } else {
+                    envelope(token);
+                }
+            }
+        }
+
+        private boolean complete() {
+            return started && depth == 0;
+        }
+
+        private void envelope(JsonToken token) throws IOException {
+            started = true;
+            switch (token) {
+                case FIELD_NAME -> dataNext = depth == 1 && DATA_FIELD.equals(parser.currentName());
+                case START_ARRAY -> {
+                    inData = dataNext;
+                    dataNext = false;
+                    depth++;
+                }
+                case START_OBJECT -> {
+                    dataNext = false;
+                    depth++;
+                }
+                case END_OBJECT, END_ARRAY -> depth--;
+                default -> dataNext = false;
+            }
+        }
+
+        private void element(JsonToken token) throws IOException {
+            switch (token) {
+                case START_OBJECT -> {
+                    if (parser.canParseAsync()) {
+                        employee = new TokenBuffer(parser);
+                        employeeDepth = 0;
+                        buffer(token);
+                    } else {
+                        // a blocking parser can bind the whole object in place
+                        action.accept(employeeReader.readValue(parser));
+                    }
+                }
+                case END_ARRAY -> {
+                    inData = false;
+                    depth--;
+                }
+                case VALUE_NULL -> {}
+                default -> throw new JsonParseException(
+                        parser, "Expected an employee in the data array, got " + token);
+            }
+        }
+
+        private void buffer(JsonToken token) throws IOException {
+            employee.copyCurrentEvent(parser);
+            if (token.isStructStart()) {
+                employeeDepth++;
+            } else if (token.isStructEnd() && --employeeDepth == 0) {
+                TokenBuffer complete = employee;
+                employee = null;
+                try (JsonParser buffered = complete.asParser()) {
+                    action.accept(employeeReader.readValue(buffered));
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,187 @@
+package com.reliaquest.api.client;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.reliaquest.api.exceptions.ResourceNotFoundException;
+import com.reliaquest.api.model.ApiException;
+import com.reliaquest.api.model.Employee;
+import com.reliaquest.api.model.EmployeeChanges;
+import com.reliaquest.api.model.EmployeePage;
+import com.reliaquest.api.model.EmployeeRequest;
+import com.reliaquest.api.model.EmployeeServiceResponse;
+import com.reliaquest.api.model.VersionedRoster;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Consumer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.RestTemplate;
+
+/**
+ * Blocking {@link EmployeeClient} on {@link RestTemplate}; each call holds the calling thread for the whole upstream
+ * round trip. This is the default, selected with {@code api.employee.client=rest-template}.
+ */
+@Component
+@ConditionalOnProperty(name = "api.employee.client", havingValue = "rest-template", matchIfMissing = true)
+public class RestTemplateEmployeeClient implements EmployeeClient {
+
+    private static final Logger logger = LoggerFactory.getLogger(RestTemplateEmployeeClient.class);
+
+    private static final ParameterizedTypeReference<EmployeeServiceResponse<List<Employee>>> EMPLOYEES_RESPONSE =
+            new ParameterizedTypeReference<>() {};
+    private static final ParameterizedTypeReference<EmployeeServiceResponse<Employee>> EMPLOYEE_RESPONSE =
+            new ParameterizedTypeReference<>() {};
+    private static final ParameterizedTypeReference<EmployeeServiceResponse<Boolean>> DELETE_RESPONSE =
+            new ParameterizedTypeReference<>() {};
+    private static final ParameterizedTypeReference<EmployeeServiceResponse<EmployeeChanges>> CHANGES_RESPONSE =
+            new ParameterizedTypeReference<>() {};
+
+    private final RestTemplate restTemplate;
+    private final String employeeApiBaseUrl;
+    private final EmployeeListReader employeeListReader;
+
+    @Autowired
+    public RestTemplateEmployeeClient(
+            RestTemplate restTemplate,
+            @Value("${api.employee.baseUrl:http://localhost:8112/api/v1/employee}") String employeeApiBaseUrl,
+            ObjectMapper objectMapper) {
+        this.restTemplate = restTemplate;
+        this.employeeApiBaseUrl = employeeApiBaseUrl;
+        this.employeeListReader = new EmployeeListReader(objectMapper);
+    }
+
+    public RestTemplateEmployeeClient(RestTemplate restTemplate, String employeeApiBaseUrl) {
+        this(restTemplate, employeeApiBaseUrl, new ObjectMapper());
+    }
+
+    @Override
+    public List<Employee> fetchAll() {
+        return handleResponse(restTemplate.exchange(employeeApiBaseUrl, HttpMethod.GET, null, EMPLOYEES_RESPONSE))
+                .getData();
+    }
+
+    /**
+     * Parses the response as it is read from the connection rather than through the message converters, which would
+     * bind the whole list first. Error statuses are raised by the template's error handler before the body is read.
+     */
+    @Override
+    public void fetchEach(Consumer<Employee> action) {
+        restTemplate.execute(
+                employeeApiBaseUrl,
+                HttpMethod.GET,
+                request -> request.getHeaders().setAccept(List.of(MediaType.APPLICATION_JSON)),
+                response -> {
+                    employeeListReader.read(response.getBody(), action);
+                    return null;
+                });
+    }
+
+    @Override
+    public Optional<VersionedRoster> fetchAllIfNoneMatch(String etag) {
+        HttpEntity<Void> request = null;
+        if (etag != null) {
+            HttpHeaders headers = new HttpHeaders();
+            headers.setIfNoneMatch(etag);
+            request = new HttpEntity<>(headers);
+        }
+        ResponseEntity<EmployeeServiceResponse<List<Employee>>> response =
+                restTemplate.exchange(employeeApiBaseUrl, HttpMethod.GET, request, EMPLOYEES_RESPONSE);
+        if (response.getStatusCode().isSameCodeAs(HttpStatus.NOT_MODIFIED)) {
+            logger.debug("Employee roster not modified since {}", etag);
+            return Optional.empty();
+        }
+        return Optional.of(new VersionedRoster(
+                handleResponse(response).getData(), response.getHeaders().getETag()));
+    }
+
+    @Override
+    public Optional<EmployeePage> fetchPage(String cursor, int limit, String etag) {
+        HttpEntity<Void> request = null;
+        if (etag != null) {
+            HttpHeaders headers = new HttpHeaders();
+            headers.setIfNoneMatch(etag);
+            request = new HttpEntity<>(headers);
+        }
+        ResponseEntity<EmployeeServiceResponse<List<Employee>>> response = cursor == null
+                ? restTemplate.exchange(
+                        employeeApiBaseUrl + "?limit={limit}", HttpMethod.GET, request, EMPLOYEES_RESPONSE, limit)
+                : restTemplate.exchange(
+                        employeeApiBaseUrl + "?limit={limit}&cursor={cursor}",
+                        HttpMethod.GET,
+                        request,
+                        EMPLOYEES_RESPONSE,
+                        limit,
+                        cursor);
+        if (response.getStatusCode().isSameCodeAs(HttpStatus.NOT_MODIFIED)) {
+            logger.debug("Employee roster not modified since {}", etag);
+            return Optional.empty();
+        }
+        HttpHeaders headers = response.getHeaders();
+        List<Employee> employees = handleResponse(response).getData();
+        String total = headers.getFirst(TOTAL_COUNT_HEADER);
+        return Optional.of(new EmployeePage(
+                employees,
+                headers.getETag(),
+                headers.getFirst(NEXT_CURSOR_HEADER),
+                total == null ? employees.size() : Integer.parseInt(total)));
+    }
+
+    @Override
+    public Optional<EmployeeChanges> fetchChangesSince(String version) {
+        String url = employeeApiBaseUrl + "/changes?since={since}";
+        try {
+            return Optional.ofNullable(handleResponse(
+                            restTemplate.exchange(url, HttpMethod.GET, null, CHANGES_RESPONSE, version))
+                    .getData());
+        } catch (HttpClientErrorException.Gone e) {
+            logger.info("Employee changes since {} are no longer available", version);
+            return Optional.empty();
+        }
+    }
+
+    @Override
+    public Employee fetchById(String id) {
+        String url = String.format("%s/%s", employeeApiBaseUrl, id);
+        return handleResponse(restTemplate.exchange(url, HttpMethod.GET, null, EMPLOYEE_RESPONSE))
+                .getData();
+    }
+
+    @Override
+    public Employee create(EmployeeRequest request) {
+        return handleResponse(restTemplate.exchange(
+                        employeeApiBaseUrl, HttpMethod.POST, new HttpEntity<>(request), EMPLOYEE_RESPONSE))
+                .getData();
+    }
+
+    @Override
+    public boolean deleteByName(String name) {
+        ResponseEntity<EmployeeServiceResponse<Boolean>> response = restTemplate.exchange(
+                employeeApiBaseUrl, HttpMethod.DELETE, new HttpEntity<>(Map.entry("name", name)), DELETE_RESPONSE);
+        return Boolean.TRUE.equals(handleResponse(response).getData());
+    }
+
+    private <T> EmployeeServiceResponse<T> handleResponse(ResponseEntity<EmployeeServiceResponse<T>> response) {
+        logger.info("Response received : {}", response);
+        if (response.getStatusCode().is2xxSuccessful()) {
+            return response.getBody();
+        } else if (response.getStatusCode().value() == 404) {
+            logger.error("Failed to find resource, Please check the input provided");
+            throw new ResourceNotFoundException("Failed to find resource, Please check the input provided");
+        } else {
+            logger.error("Failed to get employee: {}", response.getStatusCode());
+            throw new ApiException("Failed to get employee: " + response.getStatusCode());
+        }
+    }
+}
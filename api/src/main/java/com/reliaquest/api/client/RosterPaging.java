@@ -0,0 +1,105 @@
+package com.reliaquest.api.client;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.IntFunction;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.task.TaskExecutionAutoConfiguration;
+import org.springframework.stereotype.Component;
+
+/**
+ * Settings and executor for fetching the upstream roster a page at a time, so no single response has to hold the
+ * whole roster. The pages after the first are fetched by up to {@code parallelism} workers; the calling thread is one
+ * of them, so a fetch still completes when the executor has no thread to spare.
+ */
+@Component
+public class RosterPaging {
+
+    private final boolean enabled;
+    private final int pageSize;
+    private final int parallelism;
+    private final Executor executor;
+
+    @Autowired
+    public RosterPaging(
+            @Value("${api.employee.paging.enabled:false}") boolean enabled,
+            @Value("${api.employee.paging.page-size:1000}") int pageSize,
+            @Value("${api.employee.paging.parallelism:4}") int parallelism,
+            @Qualifier(TaskExecutionAutoConfiguration.APPLICATION_TASK_EXECUTOR_BEAN_NAME) Executor executor) {
+        if (pageSize < 1 || parallelism < 1) {
+            throw new IllegalArgumentException("Page size and parallelism must be positive");
+        }
+        this.enabled = enabled;
+        this.pageSize = pageSize;
+        this.parallelism = parallelism;
+        this.executor = executor;
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public int pageSize() {
+        return pageSize;
+    }
+
+    /**
+     * Runs {@code fetch} for pages {@code 0} to {@code pages - 1}, at most {@code parallelism} at a time, and returns
+     * the results in page order. The first failure stops workers from starting further pages and is rethrown.
+     */
+    public <T> List<T> fetch(int pages, IntFunction<T> fetch) {
+        Object[] results = new Object[pages];
+        AtomicInteger next = new AtomicInteger();
+        AtomicInteger remaining = new AtomicInteger(pages);
+        CompletableFuture<Void> done = new CompletableFuture<>();
+        if (pages == 0) {
+            done.complete(null);
+        }
+        Runnable worker = () -> {
+            int page;
+            while (!done.isDone() && (page = next.getAndIncrement()) < pages) {
+                try {
+                    results[page] = fetch.apply(page);
+                } catch (RuntimeException | Error e) {
+                    done.completeExceptionally(e);
+                    return;
+                }
+                if (remaining.decrementAndGet() == 0) {
+                    done.complete(null);
+                }
+            }
+        };
+
+        for (int i = 1; i < Math.min(parallelism, pages); i++) {
+            try {
+                executor.execute(worker);
+            } catch (RejectedExecutionException e) {
+                // the workers already running, or the calling thread, pick up its share
+                break;
+            }
+        }
+        worker.run();
+        try {
+            done.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            if (e.getCause() instanceof Error cause) {
+                throw cause;
+            }
+            throw e;
+        }
+
+        @SuppressWarnings("unchecked")
+        List<T> fetched = (List<T>) Arrays.asList(results);
+        return fetched;
+    }
+}
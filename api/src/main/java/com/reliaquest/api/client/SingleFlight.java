@@ -0,0 +1,60 @@
+package com.reliaquest.api.client;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * Coalesces concurrent calls for the same key: the first caller performs the call, callers arriving while it is in
+ * flight wait for and share its result (or failure). Nothing is cached once the call completes.
+ */
+public class SingleFlight<K, V> {
+
+    private final ConcurrentMap<K, CompletableFuture<V>> inFlight = new ConcurrentHashMap<>();
+    private final LongAdder coalescedCalls = new LongAdder();
+
+    public V execute(K key, Supplier<V> call) {
+        CompletableFuture<V> ours = new CompletableFuture<>();
+        CompletableFuture<V> existing = inFlight.putIfAbsent(key, ours);
+        if (existing != null) {
+            coalescedCalls.increment();
+            return join(existing);
+        }
+
+        try {
+            V value = call.get();
+            ours.complete(value);
+            return value;
+        } catch (RuntimeException | Error e) {
+            ours.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, ours);
+        }
+    }
+
+    public long coalescedCalls() {
+        return coalescedCalls.sum();
+    }
+
+    public int inFlight() {
+        return inFlight.size();
+    }
+
+    private static <V> V join(CompletableFuture<V> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            if (e.getCause() instanceof Error cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+}
@@ -0,0 +1,96 @@
+package com.reliaquest.api.client;
+
+import com.reliaquest.api.exceptions.UpstreamUnavailableException;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * Caps how many calls of each kind may be waiting on the employee API at once, so a slow or throttling upstream
+ * cannot tie up every request thread with one kind of call (e.g. a burst of reads starving deletes). A call that finds
+ * its bulkhead full waits up to {@code maxWait} and then fails.
+ */
+@Component
+public class UpstreamBulkhead implements MeterBinder {
+
+    public enum Operation {
+        READ,
+        CREATE,
+        DELETE
+    }
+
+    private final boolean enabled;
+    private final Duration maxWait;
+    private final Map<Operation, Semaphore> permits = new EnumMap<>(Operation.class);
+    private final Map<Operation, LongAdder> rejected = new EnumMap<>(Operation.class);
+
+    @Autowired
+    public UpstreamBulkhead(
+            @Value("${api.employee.bulkhead.enabled:true}") boolean enabled,
+            @Value("${api.employee.bulkhead.read:64}") int maxReads,
+            @Value("${api.employee.bulkhead.create:16}") int maxCreates,
+            @Value("${api.employee.bulkhead.delete:16}") int maxDeletes,
+            @Value("${api.employee.bulkhead.max-wait:500ms}") Duration maxWait) {
+        this.enabled = enabled;
+        this.maxWait = maxWait;
+        permits.put(Operation.READ, new Semaphore(maxReads));
+        permits.put(Operation.CREATE, new Semaphore(maxCreates));
+        permits.put(Operation.DELETE, new Semaphore(maxDeletes));
+        for (Operation operation : Operation.values()) {
+            rejected.put(operation, new LongAdder());
+        }
+    }
+
+    public <T> T execute(Operation operation, Supplier<T> call) {
+        if (!enabled) {
+            return call.get();
+        }
+
+        Semaphore semaphore = permits.get(operation);
+        boolean acquired;
+        try {
+            acquired = semaphore.tryAcquire(maxWait.toNanos(), TimeUnit.NANOSECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            acquired = false;
+        }
+        if (!acquired) {
+            rejected.get(operation).increment();
+            throw new UpstreamUnavailableException(
+                    "Too many concurrent " + operation.name().toLowerCase() + " calls to the employee API", maxWait);
+        }
+        try {
+            return call.get();
+        } finally {
+            semaphore.release();
+        }
+    }
+
+    public int availablePermits(Operation operation) {
+        return permits.get(operation).availablePermits();
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        for (Operation operation : Operation.values()) {
+            String tag = operation.name().toLowerCase();
+            Gauge.builder("employee.upstream.bulkhead.available", permits.get(operation), Semaphore::availablePermits)
+                    .tag("operation", tag)
+                    .register(registry);
+            FunctionCounter.builder("employee.upstream.bulkhead.rejected", rejected.get(operation), LongAdder::sum)
+                    .tag("operation", tag)
+                    .register(registry);
+        }
+    }
+}
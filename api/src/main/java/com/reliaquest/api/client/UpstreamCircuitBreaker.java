@@ -0,0 +1,238 @@
+package com.reliaquest.api.client;
+
+import com.reliaquest.api.exceptions.UpstreamRateLimitException;
+import com.reliaquest.api.exceptions.UpstreamUnavailableException;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.HttpClientErrorException;
+
+/**
+ * Circuit breaker in front of the employee API.
+ *
+ * <p>Outcomes of the last {@code slidingWindowSize} calls are kept; once at least {@code minimumCalls} have been seen
+ * and the share of failures reaches {@code failureRateThreshold}, the circuit opens and calls fail immediately for
+ * {@code openDuration}. It then lets {@code halfOpenCalls} probes through: if they all succeed the circuit closes,
+ * if any fails it opens again.
+ *
+ * <p>5xx responses, 429s and I/O errors are failures. Other 4xx responses mean upstream is healthy and count as
+ * successes; a request budget exhausted locally by {@link UpstreamRateLimiter} never reached upstream and is ignored.
+ */
+@Component
+public class UpstreamCircuitBreaker implements MeterBinder {
+
+    private static final Logger logger = LoggerFactory.getLogger(UpstreamCircuitBreaker.class);
+
+    public enum State {
+        CLOSED,
+        OPEN,
+        HALF_OPEN
+    }
+
+    public record Settings(
+            boolean enabled,
+            double failureRateThreshold,
+            int minimumCalls,
+            int slidingWindowSize,
+            Duration openDuration,
+            int halfOpenCalls) {}
+
+    private enum Outcome {
+        SUCCESS,
+        FAILURE,
+        IGNORED
+    }
+
+    private final Settings settings;
+    private final Clock clock;
+
+    // guarded by this
+    private State state = State.CLOSED;
+    private final boolean[] failures;
+    private int recorded;
+    private int nextSlot;
+    private int failureCount;
+    private long openedAtMillis;
+    private int probesInFlight;
+    private int probesSucceeded;
+
+    private final LongAdder rejected = new LongAdder();
+    private final LongAdder opened = new LongAdder();
+
+    @Autowired
+    public UpstreamCircuitBreaker(
+            @Value("${api.employee.circuit-breaker.enabled:true}") boolean enabled,
+            @Value("${api.employee.circuit-breaker.failure-rate-threshold:50}") double failureRateThreshold,
+            @Value("${api.employee.circuit-breaker.minimum-calls:10}") int minimumCalls,
+            @Value("${api.employee.circuit-breaker.sliding-window-size:20}") int slidingWindowSize,
+            @Value("${api.employee.circuit-breaker.open-duration:10s}") Duration openDuration,
+            @Value("${api.employee.circuit-breaker.half-open-calls:2}") int halfOpenCalls) {
+        this(
+                new Settings(
+                        enabled,
+                        failureRateThreshold,
+                        minimumCalls,
+                        slidingWindowSize,
+                        openDuration,
+                        halfOpenCalls),
+                Clock.systemUTC());
+    }
+
+    public UpstreamCircuitBreaker(Settings settings) {
+        this(settings, Clock.systemUTC());
+    }
+
+    UpstreamCircuitBreaker(Settings settings, Clock clock) {
+        this.settings = settings;
+        this.clock = clock;
+        this.failures = new boolean[Math.max(1, settings.slidingWindowSize())];
+    }
+
+    public <T> T execute(Supplier<T> call) {
+        if (!settings.enabled()) {
+            return call.get();
+        }
+
+        boolean probe = acquirePermission();
+        T result;
+        try {
+            result = call.get();
+        } catch (RuntimeException e) {
+            onComplete(probe, classify(e));
+            throw e;
+        }
+        onComplete(probe, Outcome.SUCCESS);
+        return result;
+    }
+
+    public synchronized State state() {
+        if (state == State.OPEN && openElapsed()) {
+            return State.HALF_OPEN;
+        }
+        return state;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        for (State candidate : State.values()) {
+            Gauge.builder("employee.upstream.circuit.state", this, breaker -> breaker.state() == candidate ? 1 : 0)
+                    .description("1 for the state the circuit to the employee API is currently in")
+                    .tag("state", candidate.name().toLowerCase())
+                    .register(registry);
+        }
+        FunctionCounter.builder("employee.upstream.circuit.opened", opened, LongAdder::sum)
+                .register(registry);
+        FunctionCounter.builder("employee.upstream.circuit.rejected", rejected, LongAdder::sum)
+                .description("Calls failed fast because the circuit was open")
+                .register(registry);
+    }
+
+    /**
+     * Returns whether the call is a half-open probe, or throws if the circuit does not let it through.
+     */
+    private synchronized boolean acquirePermission() {
+        if (state == State.OPEN && openElapsed()) {
+            logger.info("Employee API circuit half-open, probing with {} calls", settings.halfOpenCalls());
+            state = State.HALF_OPEN;
+            probesInFlight = 0;
+            probesSucceeded = 0;
+        }
+        switch (state) {
+            case CLOSED:
+                return false;
+            case HALF_OPEN:
+                if (probesInFlight + probesSucceeded < settings.halfOpenCalls()) {
+                    probesInFlight++;
+                    return true;
+                }
+                break;
+            default:
+                break;
+        }
+        rejected.increment();
+        throw new UpstreamUnavailableException("Employee API circuit is open", retryAfter());
+    }
+
+    private synchronized void onComplete(boolean probe, Outcome outcome) {
+        if (probe) {
+            probesInFlight--;
+            if (state != State.HALF_OPEN) {
+                return;
+            }
+            if (outcome == Outcome.FAILURE) {
+                open();
+            } else if (outcome == Outcome.SUCCESS && ++probesSucceeded >= settings.halfOpenCalls()) {
+                logger.info("Employee API circuit closed after {} successful probes", probesSucceeded);
+                state = State.CLOSED;
+                resetWindow();
+            }
+            return;
+        }
+        if (state != State.CLOSED || outcome == Outcome.IGNORED) {
+            // calls that started before the circuit opened do not count towards the next window
+            return;
+        }
+
+        boolean failure = outcome == Outcome.FAILURE;
+        if (recorded == failures.length) {
+            failureCount -= failures[nextSlot] ? 1 : 0;
+        } else {
+            recorded++;
+        }
+        failures[nextSlot] = failure;
+        failureCount += failure ? 1 : 0;
+        nextSlot = (nextSlot + 1) % failures.length;
+
+        if (recorded >= settings.minimumCalls()
+                && failureCount * 100.0 / recorded >= settings.failureRateThreshold()) {
+            logger.warn("Employee API circuit opened, {} of the last {} calls failed", failureCount, recorded);
+            open();
+        }
+    }
+
+    private void open() {
+        state = State.OPEN;
+        openedAtMillis = clock.millis();
+        opened.increment();
+        resetWindow();
+    }
+
+    private void resetWindow() {
+        recorded = 0;
+        nextSlot = 0;
+        failureCount = 0;
+    }
+
+    private boolean openElapsed() {
+        return clock.millis() - openedAtMillis >= settings.openDuration().toMillis();
+    }
+
+    private Duration retryAfter() {
+        long remaining = openedAtMillis + settings.openDuration().toMillis() - clock.millis();
+        return Duration.ofMillis(Math.max(1, remaining));
+    }
+
+    private static Outcome classify(RuntimeException e) {
+        if (e instanceof UpstreamRateLimitException) {
+            // only counts when upstream actually answered 429
+            return e.getCause() instanceof HttpClientErrorException.TooManyRequests ? Outcome.FAILURE : Outcome.IGNORED;
+        }
+        if (e instanceof UpstreamUnavailableException) {
+            return Outcome.IGNORED;
+        }
+        if (e instanceof HttpClientErrorException) {
+            return e instanceof HttpClientErrorException.TooManyRequests ? Outcome.FAILURE : Outcome.SUCCESS;
+        }
+        return Outcome.FAILURE;
+    }
+}
@@ -0,0 +1,94 @@
+package com.reliaquest.api.client;
+
+import com.reliaquest.api.exceptions.UpstreamRateLimitException;
+import com.reliaquest.api.exceptions.UpstreamUnavailableException;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.io.IOException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.HttpServerErrorException;
+import org.springframework.web.client.ResourceAccessException;
+
+/**
+ * Times every call to the employee API by operation and outcome ({@code employee.upstream.requests}) and tracks how
+ * many are in flight ({@code employee.upstream.in-flight}). Percentiles are configured under
+ * {@code management.metrics.distribution}.
+ */
+@Component
+public class UpstreamMetrics {
+
+    private final MeterRegistry registry;
+    private final Map<String, AtomicInteger> inFlight = new ConcurrentHashMap<>();
+    // looked up on every call, so built once per operation and outcome rather than through the registry each time
+    private final Map<TimerKey, Timer> timers = new ConcurrentHashMap<>();
+
+    public UpstreamMetrics(MeterRegistry registry) {
+        this.registry = registry;
+    }
+
+    public <T> T record(String operation, Supplier<T> call) {
+        AtomicInteger active = inFlight.computeIfAbsent(operation, this::registerInFlight);
+        active.incrementAndGet();
+        Timer.Sample sample = Timer.start(registry);
+        String outcome = "success";
+        try {
+            return call.get();
+        } catch (RuntimeException e) {
+            outcome = outcome(e);
+            throw e;
+        } finally {
+            active.decrementAndGet();
+            sample.stop(timers.computeIfAbsent(new TimerKey(operation, outcome), this::registerTimer));
+        }
+    }
+
+    private Timer registerTimer(TimerKey key) {
+        return Timer.builder("employee.upstream.requests")
+                .description("Calls made to the employee API")
+                .tag("operation", key.operation())
+                .tag("outcome", key.outcome())
+                .register(registry);
+    }
+
+    private AtomicInteger registerInFlight(String operation) {
+        AtomicInteger active = new AtomicInteger();
+        Gauge.builder("employee.upstream.in-flight", active, AtomicInteger::get)
+                .description("Calls to the employee API waiting for a response")
+                .tag("operation", operation)
+                .register(registry);
+        return active;
+    }
+
+    private static String outcome(RuntimeException e) {
+        if (e instanceof HttpClientErrorException.TooManyRequests) {
+            return "throttled";
+        }
+        if (e instanceof HttpClientErrorException) {
+            return "client_error";
+        }
+        if (e instanceof HttpServerErrorException) {
+            return "server_error";
+        }
+        // turned away by our own rate limiter, bulkhead or circuit breaker without reaching upstream
+        if (e instanceof UpstreamRateLimitException || e instanceof UpstreamUnavailableException) {
+            return "rejected";
+        }
+        if (e instanceof ResourceAccessException) {
+            return "io_error";
+        }
+        for (Throwable cause = e.getCause(); cause != null; cause = cause.getCause()) {
+            if (cause instanceof IOException) {
+                return "io_error";
+            }
+        }
+        return "error";
+    }
+
+    private record TimerKey(String operation, String outcome) {}
+}
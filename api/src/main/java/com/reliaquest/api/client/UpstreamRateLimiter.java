@@ -0,0 +1,286 @@
+package com.reliaquest.api.client;
+
+import com.reliaquest.api.exceptions.UpstreamRateLimitException;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.HttpClientErrorException;
+
+/**
+ * Client-side token bucket in front of the employee API that learns the server's request budget.
+ *
+ * <p>The mock server lets a fixed number of requests through and then answers 429 until a fixed backoff has passed
+ * since the last request it accepted. The bucket mirrors that: it holds {@code budget} tokens and, once drained, is
+ * refilled in full after {@code window}. The budget is learned from how many requests succeeded before the first 429
+ * (and probed upwards by one per window until then); the window is narrowed down by bisecting between the longest
+ * wait that still got a 429 and the shortest wait that was accepted.
+ *
+ * <p>{@link Priority#INTERACTIVE} calls wait up to {@code maxWait} for a token and are retried with jittered
+ * backoff within that wait. {@link Priority#BACKGROUND} calls never wait and leave {@code backgroundReserve} tokens
+ * for interactive reads that cannot be served from cache.
+ */
+@Component
+public class UpstreamRateLimiter implements MeterBinder {
+
+    private static final Logger logger = LoggerFactory.getLogger(UpstreamRateLimiter.class);
+
+    private static final long UNKNOWN = -1;
+    private static final long WINDOW_PRECISION_MILLIS = 1000;
+
+    public enum Priority {
+        INTERACTIVE,
+        BACKGROUND
+    }
+
+    public record Settings(
+            boolean enabled,
+            int initialBudget,
+            Duration initialWindow,
+            Duration maxWindow,
+            Duration maxWait,
+            int backgroundReserve,
+            int maxRetries) {}
+
+    interface Sleeper {
+        void sleep(long millis) throws InterruptedException;
+    }
+
+    private final Settings settings;
+    private final Clock clock;
+    private final Sleeper sleeper;
+
+    // guarded by this
+    private int budget;
+    private boolean budgetKnown;
+    private int tokens;
+    private int grantedSinceRefill;
+    private int grantedSinceServerReset;
+    private boolean serverResetSeen;
+    private boolean throttledThisBlock;
+    private boolean probing;
+    private long blockedUntilMillis;
+    private long blockStartedMillis;
+    private long lastGrantedMillis = UNKNOWN;
+    private long windowLowerMillis;
+    private long windowUpperMillis = UNKNOWN;
+
+    private final LongAdder throttled = new LongAdder();
+    private final LongAdder retries = new LongAdder();
+    private final LongAdder rejected = new LongAdder();
+
+    @Autowired
+    public UpstreamRateLimiter(
+            @Value("${api.employee.rate-limit.enabled:true}") boolean enabled,
+            @Value("${api.employee.rate-limit.initial-budget:5}") int initialBudget,
+            @Value("${api.employee.rate-limit.initial-window:30s}") Duration initialWindow,
+            @Value("${api.employee.rate-limit.max-window:2m}") Duration maxWindow,
+            @Value("${api.employee.rate-limit.max-wait:2s}") Duration maxWait,
+            @Value("${api.employee.rate-limit.background-reserve:1}") int backgroundReserve,
+            @Value("${api.employee.rate-limit.max-retries:2}") int maxRetries) {
+        this(
+                new Settings(
+                        enabled, initialBudget, initialWindow, maxWindow, maxWait, backgroundReserve, maxRetries),
+                Clock.systemUTC(),
+                Thread::sleep);
+    }
+
+    public UpstreamRateLimiter(Settings settings) {
+        this(settings, Clock.systemUTC(), Thread::sleep);
+    }
+
+    UpstreamRateLimiter(Settings settings, Clock clock, Sleeper sleeper) {
+        this.settings = settings;
+        this.clock = clock;
+        this.sleeper = sleeper;
+        this.budget = Math.max(1, settings.initialBudget());
+        this.tokens = budget;
+    }
+
+    public <T> T execute(Priority priority, Supplier<T> call) {
+        if (!settings.enabled()) {
+            return call.get();
+        }
+
+        long deadline = clock.millis() + settings.maxWait().toMillis();
+        for (int attempt = 0; ; attempt++) {
+            acquire(priority, deadline);
+            try {
+                T result = call.get();
+                onAccepted();
+                return result;
+            } catch (HttpClientErrorException.TooManyRequests e) {
+                long retryAfter = onThrottled();
+                if (priority == Priority.BACKGROUND
+                        || attempt >= settings.maxRetries()
+                        || clock.millis() + retryAfter > deadline) {
+                    rejected.increment();
+                    throw new UpstreamRateLimitException(
+                            "Employee API rate limit reached", Duration.ofMillis(retryAfter), e);
+                }
+                retries.increment();
+                logger.warn("Employee API rate limited the request, retrying in {} ms", retryAfter);
+            }
+        }
+    }
+
+    public synchronized int budget() {
+        return budget;
+    }
+
+    public synchronized Duration window() {
+        return Duration.ofMillis(nextWaitMillis(false));
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        FunctionCounter.builder("employee.upstream.throttled", throttled, LongAdder::sum)
+                .description("429 responses received from the employee API")
+                .register(registry);
+        FunctionCounter.builder("employee.upstream.retries", retries, LongAdder::sum)
+                .register(registry);
+        FunctionCounter.builder("employee.upstream.rejected", rejected, LongAdder::sum)
+                .description("Calls failed locally because no request budget was available in time")
+                .register(registry);
+        Gauge.builder("employee.upstream.budget", this, UpstreamRateLimiter::budget)
+                .register(registry);
+        Gauge.builder("employee.upstream.window", this, limiter -> limiter.window().toMillis() / 1000.0)
+                .baseUnit("seconds")
+                .register(registry);
+    }
+
+    private void acquire(Priority priority, long deadline) {
+        while (true) {
+            long now = clock.millis();
+            long waitMillis = tryAcquire(priority, now);
+            if (waitMillis == 0) {
+                return;
+            }
+            if (priority == Priority.BACKGROUND || now + waitMillis > deadline) {
+                rejected.increment();
+                throw new UpstreamRateLimitException(
+                        "Employee API request budget exhausted", Duration.ofMillis(waitMillis));
+            }
+            try {
+                sleeper.sleep(waitMillis);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new UpstreamRateLimitException(
+                        "Interrupted while waiting for employee API request budget", Duration.ofMillis(waitMillis));
+            }
+        }
+    }
+
+    /**
+     * Takes a token if one is available and returns 0, otherwise returns how long to wait before trying again.
+     */
+    private synchronized long tryAcquire(Priority priority, long now) {
+        if (now < blockedUntilMillis) {
+            return blockedUntilMillis - now;
+        }
+        if (tokens == 0) {
+            refill();
+        }
+        if (priority == Priority.BACKGROUND && tokens <= Math.min(settings.backgroundReserve(), budget - 1)) {
+            // remaining tokens are held back for interactive calls; background callers give up straight away
+            return nextWaitMillis(false);
+        }
+        tokens--;
+        if (tokens == 0) {
+            startBlock(now);
+        }
+        return 0;
+    }
+
+    private void refill() {
+        if (!budgetKnown && grantedSinceRefill >= budget) {
+            budget++;
+        }
+        tokens = budget;
+        grantedSinceRefill = 0;
+        // only a block the server actually enforced tells us anything about the length of its backoff
+        probing = throttledThisBlock;
+        throttledThisBlock = false;
+    }
+
+    private synchronized void onAccepted() {
+        long now = clock.millis();
+        if (probing) {
+            long waited = now - blockStartedMillis;
+            windowUpperMillis = windowUpperMillis == UNKNOWN ? waited : Math.min(windowUpperMillis, waited);
+            grantedSinceServerReset = 0;
+            serverResetSeen = true;
+            probing = false;
+        }
+        grantedSinceRefill++;
+        grantedSinceServerReset++;
+        lastGrantedMillis = now;
+        if (tokens == 0) {
+            // the server measures its backoff from the last request it accepted
+            startBlock(now);
+        }
+    }
+
+    private synchronized long onThrottled() {
+        throttled.increment();
+        long now = clock.millis();
+        if (throttledThisBlock) {
+            // another request that was in flight when the server started throttling
+            return Math.max(1, blockedUntilMillis - now);
+        }
+        throttledThisBlock = true;
+        probing = false;
+
+        if (grantedSinceServerReset > 0) {
+            // after its first backoff the server also lets through the request that resets its counter
+            budget = grantedSinceServerReset + (serverResetSeen ? 0 : 1);
+            budgetKnown = true;
+            logger.info("Employee API request budget learned as {} requests", budget);
+        }
+        if (lastGrantedMillis == UNKNOWN) {
+            blockStartedMillis = now;
+        } else if (grantedSinceRefill == 0) {
+            // first request after our own wait was refused, so the wait was too short
+            windowLowerMillis = Math.max(windowLowerMillis, now - blockStartedMillis);
+            if (windowUpperMillis != UNKNOWN && windowLowerMillis >= windowUpperMillis) {
+                windowUpperMillis = UNKNOWN;
+            }
+        } else {
+            blockStartedMillis = lastGrantedMillis;
+        }
+        tokens = 0;
+        blockedUntilMillis = Math.max(now + 1, blockStartedMillis + nextWaitMillis(true));
+        return blockedUntilMillis - now;
+    }
+
+    private void startBlock(long now) {
+        blockStartedMillis = now;
+        blockedUntilMillis = now + nextWaitMillis(true);
+    }
+
+    private long nextWaitMillis(boolean jitter) {
+        long wait;
+        if (windowUpperMillis == UNKNOWN) {
+            wait = Math.max(settings.initialWindow().toMillis(), windowLowerMillis * 2);
+        } else if (windowUpperMillis - windowLowerMillis <= WINDOW_PRECISION_MILLIS) {
+            wait = windowUpperMillis;
+        } else {
+            wait = (windowLowerMillis + windowUpperMillis) / 2;
+        }
+        wait = Math.min(wait, settings.maxWindow().toMillis());
+        if (jitter) {
+            wait += (long) (wait * 0.05 * ThreadLocalRandom.current().nextDouble());
+        }
+        return wait;
+    }
+}
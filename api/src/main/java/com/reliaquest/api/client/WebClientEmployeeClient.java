@@ -0,0 +1,235 @@
+package com.reliaquest.api.client;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.reliaquest.api.model.Employee;
+import com.reliaquest.api.model.EmployeeChanges;
+import com.reliaquest.api.model.EmployeePage;
+import com.reliaquest.api.model.EmployeeRequest;
+import com.reliaquest.api.model.EmployeeServiceResponse;
+import com.reliaquest.api.model.VersionedRoster;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Consumer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.HttpServerErrorException;
+import org.springframework.web.client.RestClientResponseException;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.publisher.Mono;
+
+/**
+ * Non-blocking {@link EmployeeClient} on {@link WebClient} and Reactor Netty, selected with
+ * {@code api.employee.client=web-client}.
+ *
+ * <p>Requests are written and responses read on a small event-loop pool, so upstream calls that are slow or throttled
+ * hold a socket and a few hundred bytes of state rather than a thread each. The controller contract is synchronous,
+ * so the request thread still waits for the result; run with the {@code virtual-threads} profile to make that wait
+ * cheap as well.
+ */
+@Component
+@ConditionalOnProperty(name = "api.employee.client", havingValue = "web-client")
+public class WebClientEmployeeClient implements EmployeeClient {
+
+    private static final Logger logger = LoggerFactory.getLogger(WebClientEmployeeClient.class);
+
+    private static final ParameterizedTypeReference<EmployeeServiceResponse<List<Employee>>> EMPLOYEES_RESPONSE =
+            new ParameterizedTypeReference<>() {};
+    private static final ParameterizedTypeReference<EmployeeServiceResponse<Employee>> EMPLOYEE_RESPONSE =
+            new ParameterizedTypeReference<>() {};
+    private static final ParameterizedTypeReference<EmployeeServiceResponse<Boolean>> DELETE_RESPONSE =
+            new ParameterizedTypeReference<>() {};
+    private static final ParameterizedTypeReference<EmployeeServiceResponse<EmployeeChanges>> CHANGES_RESPONSE =
+            new ParameterizedTypeReference<>() {};
+
+    private final WebClient employeeWebClient;
+    private final EmployeeListReader employeeListReader;
+
+    @Autowired
+    public WebClientEmployeeClient(WebClient employeeWebClient, ObjectMapper objectMapper) {
+        this.employeeWebClient = employeeWebClient;
+        this.employeeListReader = new EmployeeListReader(objectMapper);
+    }
+
+    public WebClientEmployeeClient(WebClient employeeWebClient) {
+        this(employeeWebClient, new ObjectMapper());
+    }
+
+    @Override
+    public List<Employee> fetchAll() {
+        return await(employeeWebClient.get().uri("").retrieve().bodyToMono(EMPLOYEES_RESPONSE));
+    }
+
+    /**
+     * Feeds the body to a non-blocking parser buffer by buffer as it arrives, so {@code action} runs on the event loop
+     * and each buffer is released as soon as it has been parsed.
+     */
+    @Override
+    public void fetchEach(Consumer<Employee> action) {
+        EmployeeListReader.Feed feed;
+        try {
+            feed = employeeListReader.feed(action);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        block(employeeWebClient
+                .get()
+                .uri("")
+                .retrieve()
+                .bodyToFlux(DataBuffer.class)
+                .doOnNext(buffer -> {
+                    try {
+                        byte[] bytes = new byte[buffer.readableByteCount()];
+                        buffer.read(bytes);
+                        feed.accept(bytes, 0, bytes.length);
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    } finally {
+                        DataBufferUtils.release(buffer);
+                    }
+                })
+                .then(Mono.fromRunnable(() -> {
+                    try {
+                        feed.finish();
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                })));
+    }
+
+    @Override
+    public Optional<VersionedRoster> fetchAllIfNoneMatch(String etag) {
+        ResponseEntity<EmployeeServiceResponse<List<Employee>>> response = block(employeeWebClient
+                .get()
+                .uri("")
+                .headers(headers -> {
+                    if (etag != null) {
+                        headers.setIfNoneMatch(etag);
+                    }
+                })
+                .retrieve()
+                .toEntity(EMPLOYEES_RESPONSE));
+        if (response.getStatusCode().isSameCodeAs(HttpStatus.NOT_MODIFIED)) {
+            logger.debug("Employee roster not modified since {}", etag);
+            return Optional.empty();
+        }
+        logger.info("Response received : {}", response.getBody());
+        List<Employee> employees = response.getBody() == null ? null : response.getBody().getData();
+        return Optional.of(new VersionedRoster(employees, response.getHeaders().getETag()));
+    }
+
+    @Override
+    public Optional<EmployeePage> fetchPage(String cursor, int limit, String etag) {
+        ResponseEntity<EmployeeServiceResponse<List<Employee>>> response = block(employeeWebClient
+                .get()
+                .uri(uri -> {
+                    uri.queryParam("limit", limit);
+                    if (cursor != null) {
+                        uri.queryParam("cursor", cursor);
+                    }
+                    return uri.build();
+                })
+                .headers(headers -> {
+                    if (etag != null) {
+                        headers.setIfNoneMatch(etag);
+                    }
+                })
+                .retrieve()
+                .toEntity(EMPLOYEES_RESPONSE));
+        if (response.getStatusCode().isSameCodeAs(HttpStatus.NOT_MODIFIED)) {
+            logger.debug("Employee roster not modified since {}", etag);
+            return Optional.empty();
+        }
+        logger.info("Response received : {}", response.getBody());
+        HttpHeaders headers = response.getHeaders();
+        List<Employee> employees = response.getBody() == null ? List.of() : response.getBody().getData();
+        String total = headers.getFirst(TOTAL_COUNT_HEADER);
+        return Optional.of(new EmployeePage(
+                employees,
+                headers.getETag(),
+                headers.getFirst(NEXT_CURSOR_HEADER),
+                total == null ? employees.size() : Integer.parseInt(total)));
+    }
+
+    @Override
+    public Optional<EmployeeChanges> fetchChangesSince(String version) {
+        try {
+            return Optional.ofNullable(await(employeeWebClient
+                    .get()
+                    .uri("/changes?since={since}", version)
+                    .retrieve()
+                    .bodyToMono(CHANGES_RESPONSE)));
+        } catch (HttpClientErrorException.Gone e) {
+            logger.info("Employee changes since {} are no longer available", version);
+            return Optional.empty();
+        }
+    }
+
+    @Override
+    public Employee fetchById(String id) {
+        return await(employeeWebClient.get().uri("/{id}", id).retrieve().bodyToMono(EMPLOYEE_RESPONSE));
+    }
+
+    @Override
+    public Employee create(EmployeeRequest request) {
+        return await(employeeWebClient
+                .post()
+                .uri("")
+                .bodyValue(request)
+                .retrieve()
+                .bodyToMono(EMPLOYEE_RESPONSE));
+    }
+
+    @Override
+    public boolean deleteByName(String name) {
+        return Boolean.TRUE.equals(await(employeeWebClient
+                .method(HttpMethod.DELETE)
+                .uri("")
+                .bodyValue(Map.of("name", name))
+                .retrieve()
+                .bodyToMono(DELETE_RESPONSE)));
+    }
+
+    private static <T> T await(Mono<EmployeeServiceResponse<T>> response) {
+        EmployeeServiceResponse<T> body = block(response);
+        logger.info("Response received : {}", body);
+        return body == null ? null : body.getData();
+    }
+
+    private static <T> T block(Mono<T> response) {
+        try {
+            return response.block();
+        } catch (WebClientResponseException e) {
+            throw translate(e);
+        }
+    }
+
+    /**
+     * Maps WebClient's error to the one {@code RestTemplate} throws, so callers (and the rate limiter's 429 handling)
+     * do not depend on which client is configured.
+     */
+    private static RestClientResponseException translate(WebClientResponseException e) {
+        HttpStatusCode status = e.getStatusCode();
+        if (status.is4xxClientError()) {
+            return HttpClientErrorException.create(
+                    e.getMessage(), status, e.getStatusText(), e.getHeaders(), e.getResponseBodyAsByteArray(), null);
+        }
+        return HttpServerErrorException.create(
+                e.getMessage(), status, e.getStatusText(), e.getHeaders(), e.getResponseBodyAsByteArray(), null);
+    }
+}
@@ -1,20 +1,79 @@
 package com.reliaquest.api.config;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.reliaquest.api.controller.StreamingEmployeeListConverter;
+import java.time.Duration;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.ClientHttpRequestFactory;
+import org.springframework.http.client.SimpleClientHttpRequestFactory;
 import org.springframework.web.client.RestTemplate;
+import org.springframework.web.reactive.function.client.WebClient;
 
 @Configuration
 public class AppConfig {
 
     @Bean
-    public RestTemplate restTemplate() {
-        return new RestTemplate();
+    public RestTemplate restTemplate(ClientHttpRequestFactory employeeApiRequestFactory) {
+        return new RestTemplate(employeeApiRequestFactory);
+    }
+
+    @Bean
+    public HttpClientSettings employeeApiHttpClientSettings(
+            @Value("${api.employee.http.max-connections:200}") int maxConnections,
+            @Value("${api.employee.http.max-connections-per-route:100}") int maxConnectionsPerRoute,
+            @Value("${api.employee.http.connect-timeout:2s}") Duration connectTimeout,
+            @Value("${api.employee.http.read-timeout:10s}") Duration readTimeout,
+            @Value("${api.employee.http.connection-request-timeout:2s}") Duration connectionRequestTimeout,
+            @Value("${api.employee.http.keep-alive:15s}") Duration keepAlive) {
+        return new HttpClientSettings(
+                maxConnections,
+                maxConnectionsPerRoute,
+                connectTimeout,
+                readTimeout,
+                connectionRequestTimeout,
+                keepAlive);
+    }
+
+    @Bean
+    public ClientHttpRequestFactory employeeApiRequestFactory(
+            @Value("${api.employee.http.pooled:true}") boolean pooled,
+            HttpClientSettings employeeApiHttpClientSettings) {
+        if (!pooled) {
+            SimpleClientHttpRequestFactory requestFactory = new SimpleClientHttpRequestFactory();
+            requestFactory.setConnectTimeout(employeeApiHttpClientSettings.connectTimeout());
+            requestFactory.setReadTimeout(employeeApiHttpClientSettings.readTimeout());
+            return requestFactory;
+        }
+        return employeeApiHttpClientSettings.createRequestFactory();
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "api.employee.client", havingValue = "web-client")
+    public WebClient employeeWebClient(
+            WebClient.Builder webClientBuilder,
+            @Value("${api.employee.baseUrl:http://localhost:8112/api/v1/employee}") String employeeApiBaseUrl,
+            HttpClientSettings employeeApiHttpClientSettings) {
+        return webClientBuilder
+                .baseUrl(employeeApiBaseUrl)
+                .clientConnector(employeeApiHttpClientSettings.createClientConnector())
+                .build();
     }
 
     @Bean
     public ObjectMapper objectMapper() {
         return new ObjectMapper();
     }
+
+    /*
+     * Picked up by Spring Boot ahead of the default Jackson converter, which still writes every other body.
+     */
+    @Bean
+    @ConditionalOnProperty(name = "api.employee.streaming.enabled", havingValue = "true", matchIfMissing = true)
+    public StreamingEmployeeListConverter streamingEmployeeListConverter(
+            ObjectMapper objectMapper, @Value("${api.employee.streaming.flush-every:500}") int flushEvery) {
+        return new StreamingEmployeeListConverter(objectMapper, flushEvery);
+    }
 }
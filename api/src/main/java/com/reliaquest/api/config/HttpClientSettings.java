@@ -0,0 +1,90 @@
+package com.reliaquest.api.config;
+
+import io.netty.channel.ChannelOption;
+import java.time.Duration;
+import org.apache.hc.client5.http.config.ConnectionConfig;
+import org.apache.hc.client5.http.config.RequestConfig;
+import org.apache.hc.client5.http.impl.DefaultConnectionKeepAliveStrategy;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.client5.http.impl.classic.HttpClients;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManagerBuilder;
+import org.apache.hc.core5.util.TimeValue;
+import org.apache.hc.core5.util.Timeout;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
+
+/**
+ * Tuning for the pooled HTTP clients used to reach the employee API.
+ *
+ * @param maxConnections total connections kept in the pool
+ * @param maxConnectionsPerRoute connections allowed to a single host and port
+ * @param connectTimeout time allowed to establish a TCP connection
+ * @param readTimeout socket inactivity allowed while waiting for response bytes
+ * @param connectionRequestTimeout time a caller may wait for a pooled connection to become free
+ * @param keepAlive upper bound for reusing an idle connection; kept below the server's keep-alive timeout
+ */
+public record HttpClientSettings(
+        int maxConnections,
+        int maxConnectionsPerRoute,
+        Duration connectTimeout,
+        Duration readTimeout,
+        Duration connectionRequestTimeout,
+        Duration keepAlive) {
+
+    /**
+     * Builds a keep-alive connection pool backed request factory. Apache HttpClient advertises
+     * {@code Accept-Encoding: gzip, deflate} and decodes compressed bodies transparently.
+     */
+    public HttpComponentsClientHttpRequestFactory createRequestFactory() {
+        TimeValue keepAliveValue = TimeValue.ofMilliseconds(keepAlive.toMillis());
+        PoolingHttpClientConnectionManager connectionManager = PoolingHttpClientConnectionManagerBuilder.create()
+                .setMaxConnTotal(maxConnections)
+                .setMaxConnPerRoute(maxConnectionsPerRoute)
+                .setDefaultConnectionConfig(ConnectionConfig.custom()
+                        .setConnectTimeout(Timeout.ofMilliseconds(connectTimeout.toMillis()))
+                        .setSocketTimeout(Timeout.ofMilliseconds(readTimeout.toMillis()))
+                        .setValidateAfterInactivity(TimeValue.ofSeconds(2))
+                        .build())
+                .build();
+
+        CloseableHttpClient httpClient = HttpClients.custom()
+                .setConnectionManager(connectionManager)
+                .setDefaultRequestConfig(RequestConfig.custom()
+                        .setConnectionRequestTimeout(Timeout.ofMilliseconds(connectionRequestTimeout.toMillis()))
+                        .build())
+                .setKeepAliveStrategy((response, context) -> {
+                    TimeValue advertised =
+                            DefaultConnectionKeepAliveStrategy.INSTANCE.getKeepAliveDuration(response, context);
+                    return advertised.compareTo(keepAliveValue) < 0 ? advertised : keepAliveValue;
+                })
+                .evictIdleConnections(keepAliveValue)
+                .evictExpiredConnections()
+                .build();
+
+        return new HttpComponentsClientHttpRequestFactory(httpClient);
+    }
+
+    /**
+     * Builds the Reactor Netty connector used by {@code WebClient} with the same limits. Callers waiting for a pooled
+     * connection are queued without bound, since on the event loop they hold no thread while they wait.
+     */
+    public ReactorClientHttpConnector createClientConnector() {
+        ConnectionProvider connectionProvider = ConnectionProvider.builder("employee-api")
+                .maxConnections(maxConnectionsPerRoute)
+                .pendingAcquireMaxCount(-1)
+                .pendingAcquireTimeout(connectionRequestTimeout)
+                .maxIdleTime(keepAlive)
+                .evictInBackground(keepAlive)
+                .build();
+
+        HttpClient httpClient = HttpClient.create(connectionProvider)
+                .compress(true)
+                .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, (int) connectTimeout.toMillis())
+                .responseTimeout(readTimeout);
+
+        return new ReactorClientHttpConnector(httpClient);
+    }
+}
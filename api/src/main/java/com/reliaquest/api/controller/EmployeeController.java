@@ -2,6 +2,7 @@ package com.reliaquest.api.controller;
 
 import com.reliaquest.api.model.Employee;
 import com.reliaquest.api.model.EmployeeRequest;
+import com.reliaquest.api.roster.RankBy;
 import com.reliaquest.api.service.EmployeeService;
 import jakarta.validation.Valid;
 import java.util.List;
@@ -20,6 +21,8 @@ public class EmployeeController implements IEmployeeController<Employee, Employe
 
     private static final Logger logger = LoggerFactory.getLogger(EmployeeController.class);
 
+    static final int MAX_TOP_LIMIT = 10_000;
+
     private final EmployeeService employeeService;
 
     @Override
@@ -64,6 +67,21 @@ public class EmployeeController implements IEmployeeController<Employee, Employe
         return ResponseEntity.ok(topEarners);
     }
 
+    /**
+     * Returns up to {@code limit} employees ranked highest by salary or age. Not part of {@link IEmployeeController}.
+     */
+    @GetMapping("/top")
+    public ResponseEntity<List<Employee>> getTopEmployees(
+            @RequestParam(defaultValue = "salary") String by, @RequestParam(defaultValue = "10") int limit) {
+        logger.info("Request received to get top {} employees by {}", limit, by);
+        if (limit < 1 || limit > MAX_TOP_LIMIT) {
+            throw new IllegalArgumentException("limit must be between 1 and " + MAX_TOP_LIMIT);
+        }
+        List<Employee> employees = employeeService.getTopEmployees(RankBy.parse(by), limit);
+        logger.info("Returning {} top employees by {}", employees.size(), by);
+        return ResponseEntity.ok(employees);
+    }
+
     @Override
     public ResponseEntity<Employee> createEmployee(@Valid @RequestBody EmployeeRequest employeeInput) {
         logger.info("Request received to create a new employee");
@@ -1,9 +1,12 @@
 package com.reliaquest.api.controller;
 
 import com.reliaquest.api.exceptions.ResourceNotFoundException;
+import com.reliaquest.api.exceptions.UpstreamRateLimitException;
+import com.reliaquest.api.exceptions.UpstreamUnavailableException;
 import java.util.HashMap;
 import java.util.Map;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.FieldError;
@@ -67,6 +70,24 @@ public class EmployeeControllerAdvice {
         return ResponseEntity.status(ex.getStatusCode()).body("Requested resource not found.");
     }
 
+    @ExceptionHandler(UpstreamRateLimitException.class)
+    protected ResponseEntity<?> handleException(UpstreamRateLimitException ex) {
+        long retryAfterSeconds = Math.max(1, (ex.getRetryAfter().toMillis() + 999) / 1000);
+        log.error("Employee API request budget exhausted, retry after {} seconds", retryAfterSeconds);
+        return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfterSeconds))
+                .body("Too many request received to process");
+    }
+
+    @ExceptionHandler(UpstreamUnavailableException.class)
+    protected ResponseEntity<?> handleException(UpstreamUnavailableException ex) {
+        long retryAfterSeconds = Math.max(1, (ex.getRetryAfter().toMillis() + 999) / 1000);
+        log.error("Employee API unavailable: {}, retry after {} seconds", ex.getMessage(), retryAfterSeconds);
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfterSeconds))
+                .body("Employee service is temporarily unavailable");
+    }
+
     @ExceptionHandler(Exception.class)
     protected ResponseEntity<?> handleException(Exception ex) {
         log.error("Resource not found", ex);
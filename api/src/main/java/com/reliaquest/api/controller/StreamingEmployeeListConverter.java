@@ -0,0 +1,89 @@
+package com.reliaquest.api.controller;
+
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.reliaquest.api.model.Employee;
+import java.io.IOException;
+import java.lang.reflect.Type;
+import java.util.List;
+import org.springframework.core.ResolvableType;
+import org.springframework.http.HttpInputMessage;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.AbstractGenericHttpMessageConverter;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+import org.springframework.util.StreamUtils;
+
+/**
+ * Writes {@code List<Employee>} response bodies (the full roster and name searches) one employee at a time with a
+ * {@link JsonGenerator}, flushing every {@code flushEvery} employees. The first employees reach the client as soon as
+ * they are written, however large the response, and the only buffer is the generator's own. The JSON is the same array
+ * the default Jackson converter writes, using the same {@link ObjectMapper}.
+ */
+public class StreamingEmployeeListConverter extends AbstractGenericHttpMessageConverter<List<?>> {
+
+    private final ObjectMapper objectMapper;
+    private final ObjectWriter employeeWriter;
+    private final int flushEvery;
+
+    public StreamingEmployeeListConverter(ObjectMapper objectMapper, int flushEvery) {
+        super(MediaType.APPLICATION_JSON);
+        if (flushEvery < 1) {
+            throw new IllegalArgumentException("flushEvery must be positive: " + flushEvery);
+        }
+        this.objectMapper = objectMapper;
+        // the generator is flushed per batch below, not after every employee
+        this.employeeWriter =
+                objectMapper.writerFor(Employee.class).without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+        this.flushEvery = flushEvery;
+    }
+
+    @Override
+    public boolean canWrite(Type type, Class<?> clazz, MediaType mediaType) {
+        if (type == null || !List.class.isAssignableFrom(clazz) || !canWrite(mediaType)) {
+            return false;
+        }
+        return ResolvableType.forType(type).asCollection().resolveGeneric(0) == Employee.class;
+    }
+
+    @Override
+    public boolean canRead(Type type, Class<?> contextClass, MediaType mediaType) {
+        return false;
+    }
+
+    @Override
+    protected boolean supports(Class<?> clazz) {
+        // only bodies whose declared type says they hold employees, see canWrite(Type, Class, MediaType)
+        return false;
+    }
+
+    @Override
+    protected void writeInternal(List<?> employees, Type type, HttpOutputMessage outputMessage) throws IOException {
+        try (JsonGenerator generator = objectMapper
+                .getFactory()
+                .createGenerator(StreamUtils.nonClosing(outputMessage.getBody()), JsonEncoding.UTF8)) {
+            generator.writeStartArray();
+            int written = 0;
+            for (Object employee : employees) {
+                employeeWriter.writeValue(generator, employee);
+                if (++written % flushEvery == 0) {
+                    generator.flush();
+                }
+            }
+            generator.writeEndArray();
+        }
+    }
+
+    @Override
+    public List<?> read(Type type, Class<?> contextClass, HttpInputMessage inputMessage) {
+        throw new HttpMessageNotReadableException("Employee lists are only written", inputMessage);
+    }
+
+    @Override
+    protected List<?> readInternal(Class<? extends List<?>> clazz, HttpInputMessage inputMessage) {
+        throw new HttpMessageNotReadableException("Employee lists are only written", inputMessage);
+    }
+}
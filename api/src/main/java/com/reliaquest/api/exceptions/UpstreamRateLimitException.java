@@ -0,0 +1,22 @@
+package com.reliaquest.api.exceptions;
+
+import java.time.Duration;
+
+public class UpstreamRateLimitException extends RuntimeException {
+
+    private final Duration retryAfter;
+
+    public UpstreamRateLimitException(String message, Duration retryAfter) {
+        super(message);
+        this.retryAfter = retryAfter;
+    }
+
+    public UpstreamRateLimitException(String message, Duration retryAfter, Throwable cause) {
+        super(message, cause);
+        this.retryAfter = retryAfter;
+    }
+
+    public Duration getRetryAfter() {
+        return retryAfter;
+    }
+}
@@ -0,0 +1,20 @@
+package com.reliaquest.api.exceptions;
+
+import java.time.Duration;
+
+/**
+ * Thrown without calling the employee API because its circuit is open or the bulkhead for the operation is full.
+ */
+public class UpstreamUnavailableException extends RuntimeException {
+
+    private final Duration retryAfter;
+
+    public UpstreamUnavailableException(String message, Duration retryAfter) {
+        super(message);
+        this.retryAfter = retryAfter;
+    }
+
+    public Duration getRetryAfter() {
+        return retryAfter;
+    }
+}
@@ -0,0 +1,12 @@
+package com.reliaquest.api.model;
+
+/**
+ * An upstream create or delete, numbered with the roster version it produced.
+ */
+public record EmployeeChange(long version, Type type, Employee employee) {
+
+    public enum Type {
+        CREATED,
+        DELETED
+    }
+}
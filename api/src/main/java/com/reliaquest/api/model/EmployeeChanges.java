@@ -0,0 +1,8 @@
+package com.reliaquest.api.model;
+
+import java.util.List;
+
+/**
+ * The upstream changes after some roster version, oldest first, and the roster version they lead to.
+ */
+public record EmployeeChanges(String version, List<EmployeeChange> changes) {}
@@ -0,0 +1,9 @@
+package com.reliaquest.api.model;
+
+import java.util.List;
+
+/**
+ * One page of the upstream employee list: the ETag of the roster version it was cut from, the cursor of the next
+ * page (null on the last one) and the number of employees across all pages.
+ */
+public record EmployeePage(List<Employee> employees, String etag, String nextCursor, int total) {}
@@ -1,15 +1,15 @@
 package com.reliaquest.api.model;
 
-public class EmployeeServiceResponse {
+public class EmployeeServiceResponse<T> {
 
-    Object data;
+    T data;
     String status;
 
-    public Object getData() {
+    public T getData() {
         return data;
     }
 
-    public void setData(Object data) {
+    public void setData(T data) {
         this.data = data;
     }
 
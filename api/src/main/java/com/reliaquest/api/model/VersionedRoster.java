@@ -0,0 +1,9 @@
+package com.reliaquest.api.model;
+
+import java.util.List;
+
+/**
+ * The upstream employee list together with the ETag it was served with, or a null {@code etag} when upstream sent
+ * none.
+ */
+public record VersionedRoster(List<Employee> employees, String etag) {}
@@ -0,0 +1,106 @@
+package com.reliaquest.api.roster;
+
+import com.reliaquest.api.model.Employee;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.LongAdder;
+import org.springframework.stereotype.Component;
+
+/**
+ * Employee id to name mapping fed from every employee the API sees, so that a delete (which upstream takes by name)
+ * does not need to fetch the employee first. It does not expire, but each full roster fetch
+ * {@link #replaceAll replaces} its contents, so it holds no more than the last roster and the employees seen since; a
+ * name that turns out to be stale is {@link #forget(String) forgotten} by the caller.
+ *
+ * <p>Upstream deletes the first employee whose name matches ignoring case, so a name is only safe to delete by when
+ * no other known employee shares it; see {@link #uniqueNameOf(String)}.
+ */
+@Component
+public class EmployeeNameRegistry implements MeterBinder {
+
+    private final Map<String, String> namesById = new HashMap<>();
+    // how many known employees share each case-folded name
+    private final Map<String, Integer> namesakes = new HashMap<>();
+
+    private final LongAdder fallbacks = new LongAdder();
+
+    public synchronized void record(Employee employee) {
+        if (employee != null && employee.getId() != null && employee.getName() != null) {
+            unlink(namesById.put(employee.getId(), employee.getName()));
+            namesakes.merge(fold(employee.getName()), 1, Integer::sum);
+        }
+    }
+
+    /**
+     * Replaces everything known with the {@code employees} of a full roster fetch, dropping employees that are no
+     * longer on it.
+     */
+    public synchronized void replaceAll(Collection<Employee> employees) {
+        namesById.clear();
+        namesakes.clear();
+        employees.forEach(this::record);
+    }
+
+    public synchronized Optional<String> nameOf(String id) {
+        return Optional.ofNullable(namesById.get(id));
+    }
+
+    /**
+     * Returns the employee's name if no other known employee has the same name ignoring case, and so deleting by it
+     * cannot remove a namesake instead.
+     */
+    public synchronized Optional<String> uniqueNameOf(String id) {
+        return nameOf(id).filter(name -> namesakes.get(fold(name)) == 1);
+    }
+
+    public synchronized void forget(String id) {
+        unlink(namesById.remove(id));
+    }
+
+    public synchronized int size() {
+        return namesById.size();
+    }
+
+    /**
+     * Records that a caller had to fetch the employee from upstream because its name was unknown or stale.
+     */
+    public void recordFallback() {
+        fallbacks.increment();
+    }
+
+    public long fallbacks() {
+        return fallbacks.sum();
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        FunctionCounter.builder("employee.name.registry.fallbacks", fallbacks, LongAdder::sum)
+                .description("Deletes that had to fetch the employee from upstream to learn its name")
+                .register(registry);
+        Gauge.builder("employee.name.registry.size", this, EmployeeNameRegistry::size)
+                .register(registry);
+    }
+
+    private void unlink(String name) {
+        if (name != null) {
+            namesakes.computeIfPresent(fold(name), (folded, count) -> count == 1 ? null : count - 1);
+        }
+    }
+
+    /*
+     * Folds case the way String#equalsIgnoreCase compares, char by char.
+     */
+    private static String fold(String name) {
+        char[] folded = new char[name.length()];
+        for (int i = 0; i < folded.length; i++) {
+            folded[i] = Character.toLowerCase(Character.toUpperCase(name.charAt(i)));
+        }
+        return new String(folded);
+    }
+}
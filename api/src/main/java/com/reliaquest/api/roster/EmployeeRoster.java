@@ -0,0 +1,155 @@
+package com.reliaquest.api.roster;
+
+import com.reliaquest.api.model.Employee;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * In-memory copy of the upstream employee list, kept in upstream order and keyed by employee id, with salary and name
+ * indexes that are maintained on every write so salary queries and name searches never scan the roster.
+ */
+public class EmployeeRoster {
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<String, Employee> employeesById = new LinkedHashMap<>();
+    private final SalaryIndex salaryIndex = new SalaryIndex();
+    private final NameIndex nameIndex = new NameIndex();
+
+    // the roster in order as handed out by all(), shared by readers until the next write
+    private volatile List<Employee> ordered;
+
+    public EmployeeRoster(Collection<Employee> employees) {
+        employees.forEach(employee -> {
+            employeesById.put(employee.getId(), employee);
+            salaryIndex.add(employee);
+            nameIndex.add(employee);
+        });
+    }
+
+    /**
+     * Returns the employees in roster order. The list is unmodifiable and is shared by every caller until the roster
+     * is next written to, so reading the whole roster does not copy it each time.
+     */
+    public List<Employee> all() {
+        List<Employee> cached = ordered;
+        if (cached != null) {
+            return cached;
+        }
+        lock.readLock().lock();
+        try {
+            // writers are locked out, so this cannot overwrite the invalidation of a later write
+            List<Employee> snapshot = Collections.unmodifiableList(new ArrayList<>(employeesById.values()));
+            ordered = snapshot;
+            return snapshot;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public Optional<Employee> findById(String id) {
+        lock.readLock().lock();
+        try {
+            return Optional.ofNullable(employeesById.get(id));
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return employeesById.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Returns the employees whose name contains {@code fragment}, ignoring case, in roster order.
+     */
+    public List<Employee> searchByName(String fragment) {
+        lock.readLock().lock();
+        try {
+            return nameIndex.search(fragment);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public Optional<Integer> highestSalary() {
+        lock.readLock().lock();
+        try {
+            return salaryIndex.highestSalary();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Returns up to {@code k} employees with the highest salaries, highest first. Employees earning the same keep
+     * their roster order.
+     */
+    public List<Employee> topEarners(int k) {
+        lock.readLock().lock();
+        try {
+            return salaryIndex.top(k);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Returns up to {@code k} employees ranked highest by {@code by}, highest first, with ties in roster order. Salary
+     * rankings come from the salary index; others are selected from {@link #all()} with a bounded heap, which does
+     * not hold the lock while it runs.
+     */
+    public List<Employee> top(RankBy by, int k) {
+        if (by == RankBy.SALARY) {
+            return topEarners(k);
+        }
+        return TopK.select(all(), k, by.order(), by::isRanked);
+    }
+
+    /**
+     * Returns the 1-based salary rank of the employee, or empty if the employee is unknown or has no salary.
+     */
+    public Optional<Integer> salaryRank(String id) {
+        lock.readLock().lock();
+        try {
+            return salaryIndex.rankOf(id);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public void put(Employee employee) {
+        lock.writeLock().lock();
+        try {
+            ordered = null;
+            employeesById.put(employee.getId(), employee);
+            salaryIndex.add(employee);
+            nameIndex.add(employee);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public Optional<Employee> remove(String id) {
+        lock.writeLock().lock();
+        try {
+            ordered = null;
+            salaryIndex.remove(id);
+            nameIndex.remove(id);
+            return Optional.ofNullable(employeesById.remove(id));
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+}
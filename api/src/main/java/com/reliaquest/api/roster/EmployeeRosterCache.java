@@ -0,0 +1,350 @@
+package com.reliaquest.api.roster;
+
+import com.reliaquest.api.exceptions.UpstreamUnavailableException;
+import com.reliaquest.api.model.Employee;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.task.TaskExecutionAutoConfiguration;
+import org.springframework.stereotype.Component;
+
+/**
+ * Stale-while-revalidate cache for the upstream roster.
+ *
+ * <p>A snapshot younger than {@code ttl} is served as is. Between {@code ttl} and {@code ttl + maxStale} the stale
+ * snapshot is still served while a single background refresh replaces it. Older (or missing) snapshots are loaded
+ * synchronously; if that fails because the employee API is unavailable, the old snapshot is served instead. A
+ * {@code ttl} of zero disables caching entirely.
+ *
+ * <p>With a {@link ConditionalLoader}, refreshes of a snapshot that came with an ETag revalidate it instead of
+ * downloading it again: if upstream answers that nothing changed, the snapshot (with any local writes applied to it)
+ * is kept and its age reset. With {@code incrementalSync} the loader may instead answer with the upstream changes
+ * since the snapshot's version, which are applied to it in place.
+ */
+@Component
+public class EmployeeRosterCache implements MeterBinder {
+
+    private static final Logger logger = LoggerFactory.getLogger(EmployeeRosterCache.class);
+
+    private final Duration ttl;
+    private final Duration maxStale;
+    private final Executor refreshExecutor;
+    private final Clock clock;
+    private final boolean incrementalSync;
+
+    private final AtomicBoolean refreshing = new AtomicBoolean();
+    private final List<Consumer<EmployeeRoster>> writesDuringLoad = new ArrayList<>();
+    private int loadsInFlight;
+    // bumped whenever the snapshot is replaced or invalidated, so a load can tell whether it is still the newest
+    private long generation;
+    private volatile Snapshot snapshot;
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder staleHits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder refreshFailures = new LongAdder();
+    private final LongAdder notModified = new LongAdder();
+    private final LongAdder incrementalUpdates = new LongAdder();
+
+    @Autowired
+    public EmployeeRosterCache(
+            @Value("${api.employee.cache.ttl:30s}") Duration ttl,
+            @Value("${api.employee.cache.max-stale:5m}") Duration maxStale,
+            @Qualifier(TaskExecutionAutoConfiguration.APPLICATION_TASK_EXECUTOR_BEAN_NAME) Executor refreshExecutor,
+            @Value("${api.employee.cache.incremental-sync:false}") boolean incrementalSync) {
+        this(ttl, maxStale, refreshExecutor, Clock.systemUTC(), incrementalSync);
+    }
+
+    public EmployeeRosterCache(Duration ttl, Duration maxStale, Executor refreshExecutor, Clock clock) {
+        this(ttl, maxStale, refreshExecutor, clock, false);
+    }
+
+    public EmployeeRosterCache(
+            Duration ttl, Duration maxStale, Executor refreshExecutor, Clock clock, boolean incrementalSync) {
+        this.ttl = ttl;
+        this.maxStale = maxStale;
+        this.refreshExecutor = refreshExecutor;
+        this.clock = clock;
+        this.incrementalSync = incrementalSync;
+    }
+
+    public boolean isEnabled() {
+        return !ttl.isZero() && !ttl.isNegative();
+    }
+
+    /**
+     * Whether refreshes should ask upstream for the changes since the cached version rather than the whole roster.
+     */
+    public boolean isIncrementalSync() {
+        return incrementalSync;
+    }
+
+    /**
+     * Returns the current roster, using {@code loader} to fetch a fresh copy from upstream when required.
+     */
+    public EmployeeRoster get(Loader loader) {
+        return get((background, etag) -> Refresh.full(loader.load(background), null));
+    }
+
+    /**
+     * Returns the current roster, using {@code loader} to revalidate or fetch a fresh copy from upstream when
+     * required.
+     */
+    public EmployeeRoster get(ConditionalLoader loader) {
+        if (!isEnabled()) {
+            misses.increment();
+            return new EmployeeRoster(loader.load(false, null).employees());
+        }
+
+        Snapshot current = snapshot;
+        if (current != null) {
+            Duration age = Duration.between(current.loadedAt(), clock.instant());
+            if (age.compareTo(ttl) < 0) {
+                hits.increment();
+                return current.roster();
+            }
+            if (age.compareTo(ttl.plus(maxStale)) < 0) {
+                staleHits.increment();
+                refreshInBackground(loader);
+                return current.roster();
+            }
+        }
+
+        misses.increment();
+        try {
+            return load(loader, false);
+        } catch (UpstreamUnavailableException e) {
+            if (current == null) {
+                throw e;
+            }
+            // upstream is known to be down; an old roster is better than an error
+            logger.warn("Employee API unavailable, serving roster loaded at {}", current.loadedAt());
+            return current.roster();
+        }
+    }
+
+    /**
+     * Returns the last loaded roster however old it is, without loading one.
+     */
+    public Optional<EmployeeRoster> peek() {
+        Snapshot current = snapshot;
+        return current == null ? Optional.empty() : Optional.of(current.roster());
+    }
+
+    /**
+     * Applies a local write (create or delete) to the cached roster, and to any roster that is being loaded while
+     * the write happens so a refresh started before the write does not drop it.
+     */
+    public synchronized void apply(Consumer<EmployeeRoster> write) {
+        if (snapshot != null) {
+            write.accept(snapshot.roster());
+        }
+        if (loadsInFlight > 0) {
+            writesDuringLoad.add(write);
+        }
+    }
+
+    public synchronized void invalidate() {
+        snapshot = null;
+        generation++;
+    }
+
+    public RosterCacheStats stats() {
+        return new RosterCacheStats(
+                hits.sum(),
+                staleHits.sum(),
+                misses.sum(),
+                refreshFailures.sum(),
+                notModified.sum(),
+                incrementalUpdates.sum(),
+                ageMillis(snapshot));
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        FunctionCounter.builder("employee.roster.cache.requests", hits, LongAdder::sum)
+                .tag("result", "hit")
+                .register(registry);
+        FunctionCounter.builder("employee.roster.cache.requests", staleHits, LongAdder::sum)
+                .tag("result", "stale")
+                .register(registry);
+        FunctionCounter.builder("employee.roster.cache.requests", misses, LongAdder::sum)
+                .tag("result", "miss")
+                .register(registry);
+        FunctionCounter.builder("employee.roster.cache.refresh.failures", refreshFailures, LongAdder::sum)
+                .register(registry);
+        FunctionCounter.builder("employee.roster.cache.not.modified", notModified, LongAdder::sum)
+                .description("Refreshes that upstream answered with 304 Not Modified")
+                .register(registry);
+        FunctionCounter.builder("employee.roster.cache.incremental.updates", incrementalUpdates, LongAdder::sum)
+                .description("Refreshes that applied upstream changes to the cached roster")
+                .register(registry);
+        Gauge.builder("employee.roster.cache.hit.ratio", this, EmployeeRosterCache::hitRatio)
+                .description("Share of roster reads answered without waiting for upstream")
+                .register(registry);
+        Gauge.builder("employee.roster.cache.age", this, EmployeeRosterCache::ageSeconds)
+                .baseUnit("seconds")
+                .register(registry);
+    }
+
+    private void refreshInBackground(ConditionalLoader loader) {
+        if (!refreshing.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            refreshExecutor.execute(() -> {
+                try {
+                    load(loader, true);
+                } catch (RuntimeException e) {
+                    refreshFailures.increment();
+                    logger.warn("Background refresh of employee roster failed, serving stale copy", e);
+                } finally {
+                    refreshing.set(false);
+                }
+            });
+        } catch (RuntimeException e) {
+            refreshing.set(false);
+            logger.warn("Unable to schedule background refresh of employee roster", e);
+        }
+    }
+
+    private EmployeeRoster load(ConditionalLoader loader, boolean background) {
+        long startedGeneration;
+        Snapshot current;
+        synchronized (this) {
+            loadsInFlight++;
+            startedGeneration = generation;
+            current = snapshot;
+        }
+        try {
+            Instant startedAt = clock.instant();
+            Refresh refresh = loader.load(background, current == null ? null : current.etag());
+            if (refresh.employees() == null) {
+                if (current == null) {
+                    throw new IllegalStateException("Loader returned no roster although none is cached");
+                }
+                synchronized (this) {
+                    if (generation != startedGeneration) {
+                        // an overlapping load replaced (or invalidated) the revalidated roster; keep its result
+                        Snapshot newer = snapshot;
+                        logger.debug("Discarding revalidation of an employee roster that has since been replaced");
+                        return newer == null ? current.roster() : newer.roster();
+                    }
+                    if (refresh.changes() == null) {
+                        // every write changes the ETag, so the cached roster (with local writes) is still upstream's
+                        notModified.increment();
+                    } else {
+                        refresh.changes().accept(current.roster());
+                        incrementalUpdates.increment();
+                    }
+                    snapshot = new Snapshot(current.roster(), startedAt, refresh.etag());
+                    generation++;
+                }
+                logger.debug("Revalidated employee roster of {} employees", current.roster().size());
+                return current.roster();
+            }
+
+            EmployeeRoster fresh = new EmployeeRoster(refresh.employees());
+            synchronized (this) {
+                writesDuringLoad.forEach(write -> write.accept(fresh));
+                if (generation != startedGeneration) {
+                    // an overlapping load already replaced the roster, or it was invalidated; do not undo that
+                    logger.debug("Not caching an employee roster that was loaded before the cached one changed");
+                    Snapshot newer = snapshot;
+                    return newer == null ? fresh : newer.roster();
+                }
+                snapshot = new Snapshot(fresh, startedAt, refresh.etag());
+                generation++;
+            }
+            logger.debug("Loaded employee roster with {} employees", fresh.size());
+            return fresh;
+        } finally {
+            synchronized (this) {
+                if (--loadsInFlight == 0) {
+                    writesDuringLoad.clear();
+                }
+            }
+        }
+    }
+
+    private double hitRatio() {
+        long served = hits.sum() + staleHits.sum();
+        long total = served + misses.sum();
+        return total == 0 ? Double.NaN : (double) served / total;
+    }
+
+    private double ageSeconds() {
+        long ageMillis = ageMillis(snapshot);
+        return ageMillis < 0 ? Double.NaN : ageMillis / 1000.0;
+    }
+
+    private long ageMillis(Snapshot current) {
+        return current == null ? -1 : Duration.between(current.loadedAt(), clock.instant()).toMillis();
+    }
+
+    /**
+     * Fetches the roster from upstream; {@code background} is set when the fetch is a stale-while-revalidate refresh
+     * that no caller is waiting for.
+     */
+    @FunctionalInterface
+    public interface Loader {
+        List<Employee> load(boolean background);
+    }
+
+    /**
+     * A {@link Loader} that can revalidate: given the ETag of the cached roster (null if there is none, in which case
+     * it must return a {@link Refresh#full full} roster), says how to bring that roster up to date.
+     */
+    @FunctionalInterface
+    public interface ConditionalLoader {
+        Refresh load(boolean background, String etag);
+    }
+
+    /**
+     * What a {@link ConditionalLoader} got from upstream, and the ETag of the roster it leads to.
+     */
+    public record Refresh(List<Employee> employees, Consumer<EmployeeRoster> changes, String etag) {
+
+        public static Refresh full(List<Employee> employees, String etag) {
+            return new Refresh(employees, null, etag);
+        }
+
+        /**
+         * Upstream changes to apply to the cached roster.
+         */
+        public static Refresh changes(Consumer<EmployeeRoster> changes, String etag) {
+            return new Refresh(null, changes, etag);
+        }
+
+        public static Refresh notModified(String etag) {
+            return new Refresh(null, null, etag);
+        }
+    }
+
+    private record Snapshot(EmployeeRoster roster, Instant loadedAt, String etag) {}
+
+    public record RosterCacheStats(
+            long hits,
+            long staleHits,
+            long misses,
+            long refreshFailures,
+            long notModified,
+            long incrementalUpdates,
+            long ageMillis) {}
+}
@@ -0,0 +1,204 @@
+package com.reliaquest.api.roster;
+
+import com.reliaquest.api.model.Employee;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Trigram inverted index over employee names for case-insensitive substring search.
+ *
+ * <p>Every lowercased name is broken into its overlapping three-character grams, and each gram maps to the sorted
+ * sequence numbers of the employees whose name contains it. A fragment of three or more characters is answered by
+ * intersecting the posting lists of its grams and checking the few remaining candidates; shorter fragments fall back
+ * to scanning the pre-lowercased names. Results come back in roster order. Not thread-safe; {@link EmployeeRoster}
+ * guards it.
+ */
+class NameIndex {
+
+    private static final int GRAM = 3;
+
+    private final Map<String, Entry> entriesById = new LinkedHashMap<>();
+    private final Map<Long, Entry> entriesBySequence = new HashMap<>();
+    private final Map<Long, PostingList> postings = new HashMap<>();
+    private long nextSequence;
+
+    void add(Employee employee) {
+        Entry existing = entriesById.get(employee.getId());
+        if (existing != null) {
+            unindex(existing);
+        }
+
+        long sequence = existing != null ? existing.sequence : nextSequence++;
+        Entry entry = new Entry(employee, sequence);
+        // replacing keeps the id's position in the linked map, matching the roster
+        entriesById.put(employee.getId(), entry);
+        entriesBySequence.put(sequence, entry);
+        forEachGram(entry.name, gram ->
+                postings.computeIfAbsent(gram, key -> new PostingList()).add(sequence));
+    }
+
+    void remove(String id) {
+        Entry entry = entriesById.remove(id);
+        if (entry != null) {
+            unindex(entry);
+        }
+    }
+
+    List<Employee> search(String fragment) {
+        String needle = fragment.toLowerCase(Locale.ROOT);
+        if (needle.length() < GRAM) {
+            return scan(needle);
+        }
+
+        long[] grams = distinctGrams(needle);
+        PostingList[] lists = new PostingList[grams.length];
+        for (int i = 0; i < grams.length; i++) {
+            lists[i] = postings.get(grams[i]);
+            if (lists[i] == null) {
+                return List.of();
+            }
+        }
+        Arrays.sort(lists, (a, b) -> Integer.compare(a.size, b.size));
+
+        long[] candidates = Arrays.copyOf(lists[0].sequences, lists[0].size);
+        int count = candidates.length;
+        for (int i = 1; i < lists.length && count > 0; i++) {
+            count = lists[i].retainAll(candidates, count);
+        }
+
+        List<Employee> result = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            Entry entry = entriesBySequence.get(candidates[i]);
+            // sharing every gram is necessary but not sufficient, e.g. "abcab" for "bcabc"
+            if (entry.name.contains(needle)) {
+                result.add(entry.employee);
+            }
+        }
+        return result;
+    }
+
+    private List<Employee> scan(String needle) {
+        List<Employee> result = new ArrayList<>();
+        for (Entry entry : entriesById.values()) {
+            if (entry.name != null && entry.name.contains(needle)) {
+                result.add(entry.employee);
+            }
+        }
+        return result;
+    }
+
+    private void unindex(Entry entry) {
+        entriesBySequence.remove(entry.sequence);
+        forEachGram(entry.name, gram -> {
+            PostingList list = postings.get(gram);
+            if (list != null && list.remove(entry.sequence) && list.size == 0) {
+                postings.remove(gram);
+            }
+        });
+    }
+
+    private static long[] distinctGrams(String text) {
+        long[] grams = new long[text.length() - GRAM + 1];
+        for (int i = 0; i < grams.length; i++) {
+            grams[i] = gram(text, i);
+        }
+        return Arrays.stream(grams).distinct().toArray();
+    }
+
+    private static void forEachGram(String text, GramConsumer consumer) {
+        if (text == null) {
+            return;
+        }
+        for (int i = 0; i + GRAM <= text.length(); i++) {
+            consumer.accept(gram(text, i));
+        }
+    }
+
+    /**
+     * Packs three UTF-16 chars into one key so lookups don't allocate substrings.
+     */
+    private static long gram(String text, int offset) {
+        return ((long) text.charAt(offset) << 32) | ((long) text.charAt(offset + 1) << 16) | text.charAt(offset + 2);
+    }
+
+    private interface GramConsumer {
+        void accept(long gram);
+    }
+
+    private static final class Entry {
+
+        private final Employee employee;
+        private final String name;
+        private final long sequence;
+
+        private Entry(Employee employee, long sequence) {
+            this.employee = employee;
+            this.name = employee.getName() == null ? null : employee.getName().toLowerCase(Locale.ROOT);
+            this.sequence = sequence;
+        }
+    }
+
+    /**
+     * Sorted, duplicate-free sequence numbers. New employees get increasing sequences, so adds are normally appends.
+     */
+    private static final class PostingList {
+
+        private long[] sequences = new long[4];
+        private int size;
+
+        private void add(long sequence) {
+            if (size > 0 && sequences[size - 1] >= sequence) {
+                int index = Arrays.binarySearch(sequences, 0, size, sequence);
+                if (index >= 0) {
+                    // a name that repeats a gram
+                    return;
+                }
+                insertAt(-index - 1, sequence);
+                return;
+            }
+            insertAt(size, sequence);
+        }
+
+        private void insertAt(int index, long sequence) {
+            if (size == sequences.length) {
+                sequences = Arrays.copyOf(sequences, size * 2);
+            }
+            System.arraycopy(sequences, index, sequences, index + 1, size - index);
+            sequences[index] = sequence;
+            size++;
+        }
+
+        private boolean remove(long sequence) {
+            int index = Arrays.binarySearch(sequences, 0, size, sequence);
+            if (index < 0) {
+                return false;
+            }
+            System.arraycopy(sequences, index + 1, sequences, index, size - index - 1);
+            size--;
+            return true;
+        }
+
+        /**
+         * Keeps the first {@code count} sorted {@code candidates} that are also in this list, compacted to the front.
+         */
+        private int retainAll(long[] candidates, int count) {
+            int kept = 0;
+            int from = 0;
+            for (int i = 0; i < count && from < size; i++) {
+                int index = Arrays.binarySearch(sequences, from, size, candidates[i]);
+                if (index >= 0) {
+                    candidates[kept++] = candidates[i];
+                    from = index + 1;
+                } else {
+                    from = -index - 1;
+                }
+            }
+            return kept;
+        }
+    }
+}
@@ -0,0 +1,46 @@
+package com.reliaquest.api.roster;
+
+import com.reliaquest.api.model.Employee;
+import java.util.Comparator;
+import java.util.Locale;
+import java.util.function.Function;
+
+/**
+ * An employee attribute that employees can be ranked by, highest first. Employees without a value for it are not
+ * ranked.
+ */
+public enum RankBy {
+    SALARY(Employee::getSalary),
+    AGE(Employee::getAge);
+
+    private final Function<Employee, Integer> attribute;
+    private final Comparator<Employee> order;
+
+    RankBy(Function<Employee, Integer> attribute) {
+        this.attribute = attribute;
+        this.order = Comparator.comparing(attribute);
+    }
+
+    /**
+     * Parses a request parameter such as {@code salary}, ignoring case.
+     */
+    public static RankBy parse(String name) {
+        for (RankBy rankBy : values()) {
+            if (rankBy.name().equals(name.toUpperCase(Locale.ROOT))) {
+                return rankBy;
+            }
+        }
+        throw new IllegalArgumentException("Employees can only be ranked by salary or age, not " + name);
+    }
+
+    public boolean isRanked(Employee employee) {
+        return attribute.apply(employee) != null;
+    }
+
+    /**
+     * Orders ranked employees by the attribute, lowest first.
+     */
+    public Comparator<Employee> order() {
+        return order;
+    }
+}
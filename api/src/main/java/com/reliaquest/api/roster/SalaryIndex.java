@@ -0,0 +1,204 @@
+package com.reliaquest.api.roster;
+
+import com.reliaquest.api.model.Employee;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Order-statistic tree (treap) of employees ordered by salary, highest first. Employees earning the same are kept in
+ * the order they were added, so results match a stable sort of the roster.
+ *
+ * <p>Add and remove are O(log n), the highest salary and the rank of an employee are O(log n), and the top {@code k}
+ * earners are O(k + log n). Employees without a salary are not indexed. Not thread-safe; {@link EmployeeRoster}
+ * guards it.
+ */
+class SalaryIndex {
+
+    private final Map<String, Node> nodesById = new HashMap<>();
+    private Node root;
+    private long nextSequence;
+
+    void add(Employee employee) {
+        Node existing = nodesById.remove(employee.getId());
+        if (existing != null && existing.indexed) {
+            root = remove(root, existing);
+        }
+
+        long sequence = existing != null ? existing.sequence : nextSequence++;
+        Node node = new Node(employee, sequence);
+        nodesById.put(employee.getId(), node);
+        if (node.indexed) {
+            root = insert(root, node);
+        }
+    }
+
+    void remove(String id) {
+        Node node = nodesById.remove(id);
+        if (node != null && node.indexed) {
+            root = remove(root, node);
+        }
+    }
+
+    int size() {
+        return size(root);
+    }
+
+    Optional<Integer> highestSalary() {
+        Node node = root;
+        if (node == null) {
+            return Optional.empty();
+        }
+        while (node.left != null) {
+            node = node.left;
+        }
+        return Optional.of(node.salary);
+    }
+
+    List<Employee> top(int k) {
+        List<Employee> result = new ArrayList<>(Math.min(k, size()));
+        Deque<Node> stack = new ArrayDeque<>();
+        Node node = root;
+        while (result.size() < k && (node != null || !stack.isEmpty())) {
+            while (node != null) {
+                stack.push(node);
+                node = node.left;
+            }
+            node = stack.pop();
+            result.add(node.employee);
+            node = node.right;
+        }
+        return result;
+    }
+
+    /**
+     * Returns the 1-based position of the employee when ordered by salary, highest first, or empty if the employee
+     * is not indexed.
+     */
+    Optional<Integer> rankOf(String id) {
+        Node target = nodesById.get(id);
+        if (target == null || !target.indexed) {
+            return Optional.empty();
+        }
+        int before = 0;
+        Node node = root;
+        while (node != null) {
+            int comparison = compare(target, node);
+            if (comparison < 0) {
+                node = node.left;
+            } else if (comparison > 0) {
+                before += size(node.left) + 1;
+                node = node.right;
+            } else {
+                return Optional.of(before + size(node.left) + 1);
+            }
+        }
+        return Optional.empty();
+    }
+
+    private static Node insert(Node node, Node inserted) {
+        if (node == null) {
+            return inserted;
+        }
+        if (inserted.priority > node.priority) {
+            Node[] parts = split(node, inserted);
+            inserted.left = parts[0];
+            inserted.right = parts[1];
+            return update(inserted);
+        }
+        if (compare(inserted, node) < 0) {
+            node.left = insert(node.left, inserted);
+        } else {
+            node.right = insert(node.right, inserted);
+        }
+        return update(node);
+    }
+
+    private static Node remove(Node node, Node removed) {
+        if (node == null) {
+            return null;
+        }
+        if (node == removed) {
+            return merge(node.left, node.right);
+        }
+        if (compare(removed, node) < 0) {
+            node.left = remove(node.left, removed);
+        } else {
+            node.right = remove(node.right, removed);
+        }
+        return update(node);
+    }
+
+    /**
+     * Splits into nodes ordered before {@code pivot} and nodes ordered after it.
+     */
+    private static Node[] split(Node node, Node pivot) {
+        if (node == null) {
+            return new Node[] {null, null};
+        }
+        if (compare(node, pivot) < 0) {
+            Node[] parts = split(node.right, pivot);
+            node.right = parts[0];
+            parts[0] = update(node);
+            return parts;
+        }
+        Node[] parts = split(node.left, pivot);
+        node.left = parts[1];
+        parts[1] = update(node);
+        return parts;
+    }
+
+    private static Node merge(Node left, Node right) {
+        if (left == null) {
+            return right;
+        }
+        if (right == null) {
+            return left;
+        }
+        if (left.priority > right.priority) {
+            left.right = merge(left.right, right);
+            return update(left);
+        }
+        right.left = merge(left, right.left);
+        return update(right);
+    }
+
+    private static int compare(Node a, Node b) {
+        int bySalary = Integer.compare(b.salary, a.salary);
+        return bySalary != 0 ? bySalary : Long.compare(a.sequence, b.sequence);
+    }
+
+    private static Node update(Node node) {
+        node.size = 1 + size(node.left) + size(node.right);
+        return node;
+    }
+
+    private static int size(Node node) {
+        return node == null ? 0 : node.size;
+    }
+
+    private static final class Node {
+
+        private final Employee employee;
+        private final boolean indexed;
+        private final int salary;
+        private final long sequence;
+        private final int priority = ThreadLocalRandom.current().nextInt();
+        private int size = 1;
+        private Node left;
+        private Node right;
+
+        private Node(Employee employee, long sequence) {
+            this.employee = employee;
+            // employees without a salary only keep their place in the ordering
+            this.indexed = employee.getSalary() != null;
+            this.salary = indexed ? employee.getSalary() : 0;
+            this.sequence = sequence;
+        }
+    }
+}
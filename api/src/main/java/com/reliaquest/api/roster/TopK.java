@@ -0,0 +1,151 @@
+package com.reliaquest.api.roster;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.function.Predicate;
+import java.util.stream.Collector;
+
+/**
+ * Keeps the {@code k} greatest of the values offered to it in a min-heap of size {@code k}, so selecting from
+ * {@code n} values costs O(n log k) time and O(k) memory. Of equal values the one offered first ranks higher, which
+ * makes the result that of a stable sort of the offered values, greatest first, cut to {@code k}. Not thread-safe.
+ *
+ * <p>{@link #select} picks from a list, splitting large lists into chunks that are selected from in parallel on the
+ * common fork-join pool, after which the per-chunk heaps are merged pairwise.
+ */
+public class TopK<T> {
+
+    // below this many values, forking costs more than the scan it would share
+    static final int PARALLEL_THRESHOLD = 1 << 15;
+
+    private final int k;
+    private final Comparator<? super T> order;
+    // the weakest kept value at the head: the smallest, and of equals the last offered
+    private final Comparator<Ranked<T>> weakestFirst;
+    private final PriorityQueue<Ranked<T>> heap;
+    private long offered;
+
+    public TopK(int k, Comparator<? super T> order) {
+        if (k < 0) {
+            throw new IllegalArgumentException("k must not be negative: " + k);
+        }
+        this.k = k;
+        this.order = order;
+        this.weakestFirst = Comparator.<Ranked<T>, T>comparing(Ranked::value, order)
+                .thenComparing(Comparator.comparingLong(Ranked<T>::arrival).reversed());
+        this.heap = new PriorityQueue<>(Math.max(1, Math.min(k, 1024)), weakestFirst);
+    }
+
+    /**
+     * Collects the {@code k} greatest elements of a stream, greatest first.
+     */
+    public static <T> Collector<T, ?, List<T>> collector(int k, Comparator<? super T> order) {
+        return Collector.of(() -> new TopK<T>(k, order), TopK::offer, TopK::merge, TopK::result);
+    }
+
+    /**
+     * Returns the {@code k} greatest of the {@code values} that {@code include} accepts, greatest first and of equals
+     * the earlier in {@code values} first.
+     */
+    public static <T> List<T> select(
+            List<? extends T> values, int k, Comparator<? super T> order, Predicate<? super T> include) {
+        if (values.size() < PARALLEL_THRESHOLD) {
+            return new Selection<T>(values, 0, values.size(), k, order, include, values.size())
+                    .compute()
+                    .result();
+        }
+        int chunkSize = Math.max(
+                PARALLEL_THRESHOLD / 4, values.size() / (ForkJoinPool.getCommonPoolParallelism() * 4));
+        return ForkJoinPool.commonPool()
+                .invoke(new Selection<T>(values, 0, values.size(), k, order, include, chunkSize))
+                .result();
+    }
+
+    public void offer(T value) {
+        long arrival = offered++;
+        if (heap.size() < k) {
+            heap.add(new Ranked<>(value, arrival));
+        } else if (k > 0 && order.compare(value, heap.peek().value()) > 0) {
+            // an equal value arrived later than the weakest kept and loses the tie
+            heap.poll();
+            heap.add(new Ranked<>(value, arrival));
+        }
+    }
+
+    /**
+     * Adds the values kept by {@code later}, which must have been offered values that came after all of this one's.
+     */
+    public TopK<T> merge(TopK<T> later) {
+        List<Ranked<T>> kept = new ArrayList<>(later.heap);
+        kept.sort(Comparator.comparingLong(Ranked::arrival));
+        kept.forEach(ranked -> offer(ranked.value()));
+        return this;
+    }
+
+    /**
+     * Returns the kept values, greatest first.
+     */
+    public List<T> result() {
+        List<Ranked<T>> kept = new ArrayList<>(heap);
+        kept.sort(weakestFirst.reversed());
+        List<T> result = new ArrayList<>(kept.size());
+        kept.forEach(ranked -> result.add(ranked.value()));
+        return result;
+    }
+
+    private record Ranked<T>(T value, long arrival) {}
+
+    /**
+     * Selects from {@code values[from, to)}, forking halves until they are at most {@code chunkSize} long.
+     */
+    private static final class Selection<T> extends RecursiveTask<TopK<T>> {
+
+        private final List<? extends T> values;
+        private final int from;
+        private final int to;
+        private final int k;
+        private final Comparator<? super T> order;
+        private final Predicate<? super T> include;
+        private final int chunkSize;
+
+        private Selection(
+                List<? extends T> values,
+                int from,
+                int to,
+                int k,
+                Comparator<? super T> order,
+                Predicate<? super T> include,
+                int chunkSize) {
+            this.values = values;
+            this.from = from;
+            this.to = to;
+            this.k = k;
+            this.order = order;
+            this.include = include;
+            this.chunkSize = chunkSize;
+        }
+
+        @Override
+        protected TopK<T> compute() {
+            if (to - from <= chunkSize) {
+                TopK<T> top = new TopK<>(k, order);
+                for (T value : values.subList(from, to)) {
+                    if (include.test(value)) {
+                        top.offer(value);
+                    }
+                }
+                return top;
+            }
+            int middle = (from + to) >>> 1;
+            Selection<T> later = new Selection<T>(values, middle, to, k, order, include, chunkSize);
+            later.fork();
+            TopK<T> earlier = new Selection<T>(values, from, middle, k, order, include, chunkSize).compute();
+            // the earlier half's values were offered first, so it wins ties
+            return earlier.merge(later.join());
+        }
+    }
+}
@@ -1,24 +1,38 @@
 package com.reliaquest.api.service;
 
-import com.fasterxml.jackson.core.type.TypeReference;
-import com.fasterxml.jackson.databind.ObjectMapper;
+import com.reliaquest.api.client.EmployeeClient;
+import com.reliaquest.api.client.RosterPaging;
+import com.reliaquest.api.client.SingleFlight;
+import com.reliaquest.api.client.UpstreamBulkhead;
+import com.reliaquest.api.client.UpstreamBulkhead.Operation;
+import com.reliaquest.api.client.UpstreamCircuitBreaker;
+import com.reliaquest.api.client.UpstreamMetrics;
+import com.reliaquest.api.client.UpstreamRateLimiter;
+import com.reliaquest.api.client.UpstreamRateLimiter.Priority;
 import com.reliaquest.api.exceptions.ResourceNotFoundException;
+import com.reliaquest.api.exceptions.UpstreamUnavailableException;
 import com.reliaquest.api.model.*;
+import com.reliaquest.api.roster.EmployeeNameRegistry;
+import com.reliaquest.api.roster.EmployeeRoster;
+import com.reliaquest.api.roster.EmployeeRosterCache;
+import com.reliaquest.api.roster.EmployeeRosterCache.Refresh;
+import com.reliaquest.api.roster.RankBy;
+import com.reliaquest.api.roster.TopK;
+import java.util.ArrayList;
 import java.util.Comparator;
 import java.util.List;
-import java.util.Map;
+import java.util.Locale;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.Supplier;
+import java.util.stream.Collector;
 import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.beans.factory.annotation.Value;
-import org.springframework.http.HttpEntity;
-import org.springframework.http.HttpMethod;
-import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Service;
 import org.springframework.web.client.HttpClientErrorException;
-import org.springframework.web.client.RestTemplate;
 
 @Service
 @RequiredArgsConstructor
@@ -26,85 +40,118 @@ public class EmployeeService {
 
     private static final Logger logger = LoggerFactory.getLogger(EmployeeService.class);
 
-    @Value("${api.employee.baseUrl:http://localhost:8112/api/v1/employee}")
-    private String employeeApiBaseUrl;
+    private static final String ROSTER_KEY = "roster";
 
     @Autowired
-    private final RestTemplate restTemplate;
+    private final EmployeeClient employeeClient;
 
     @Autowired
-    private final ObjectMapper objectMapper;
+    private final EmployeeRosterCache rosterCache;
+
+    @Autowired
+    private final UpstreamRateLimiter rateLimiter;
+
+    @Autowired
+    private final UpstreamCircuitBreaker circuitBreaker;
+
+    @Autowired
+    private final UpstreamBulkhead bulkhead;
+
+    @Autowired
+    private final UpstreamMetrics upstreamMetrics;
+
+    @Autowired
+    private final EmployeeNameRegistry nameRegistry;
+
+    @Autowired
+    private final RosterPaging rosterPaging;
+
+    private final SingleFlight<String, Refresh> rosterFetches = new SingleFlight<>();
+    private final SingleFlight<String, Employee> employeeFetches = new SingleFlight<>();
 
     public List<Employee> getAllEmployees() {
-        logger.debug("Fetching all employees from API");
-        ResponseEntity<EmployeeServiceResponse> response =
-                restTemplate.getForEntity(employeeApiBaseUrl, EmployeeServiceResponse.class);
-        return objectMapper.convertValue(handleResponse(response).getData(), new TypeReference<List<Employee>>() {});
+        logger.debug("Fetching all employees");
+        return roster().all();
     }
 
     public List<Employee> getEmployeesByNameSearch(String nameFragment) {
         logger.debug("Searching employees with name fragment: {}", nameFragment);
-        List<Employee> allEmployees = getAllEmployees();
-        return allEmployees.stream()
-                .filter(employee -> employee.getName() != null
-                        && employee.getName().toLowerCase().contains(nameFragment.toLowerCase()))
-                .collect(Collectors.toList());
+        if (!rosterCache.isEnabled()) {
+            String needle = nameFragment.toLowerCase(Locale.ROOT);
+            return collectRoster(Collectors.filtering(
+                    employee -> employee.getName() != null
+                            && employee.getName().toLowerCase(Locale.ROOT).contains(needle),
+                    Collectors.toList()));
+        }
+        return roster().searchByName(nameFragment);
     }
 
     public Employee getEmployeeById(String id) {
         logger.info("Fetching employee with ID: {}", id);
-        String url = String.format("%s/%s", employeeApiBaseUrl, id);
-        ResponseEntity<EmployeeServiceResponse> response;
-        try {
-            response = restTemplate.getForEntity(url, EmployeeServiceResponse.class);
-        } catch (HttpClientErrorException e) {
-            logger.error("Error occurred in geting employee data by id  cause : {}", e);
-            throw new ApiException(
-                    "Error occurred in getting employee data by id  cause : {}",
-                    e.getStatusCode().value());
-        }
-        return objectMapper.convertValue(handleResponse(response).getData(), new TypeReference<Employee>() {});
+        return employeeFetches.execute(id, () -> fetchEmployeeById(id));
     }
 
     public Integer getHighestSalaryOfEmployees() {
         logger.debug("Finding highest salary among employees");
-        List<Employee> employees = getAllEmployees();
-        return employees.stream().mapToInt(Employee::getSalary).max().orElse(0);
+        if (!rosterCache.isEnabled()) {
+            return collectRoster(Collectors.mapping(
+                            Employee::getSalary,
+                            Collectors.filtering(Objects::nonNull, Collectors.maxBy(Comparator.naturalOrder()))))
+                    .orElse(0);
+        }
+        return roster().highestSalary().orElse(0);
     }
 
     public List<String> getTop10HighestEarningEmployeeNames() {
         logger.debug("Finding top 10 highest earning employees");
-        List<Employee> employees = getAllEmployees();
-        return employees.stream()
-                .sorted(Comparator.comparingInt(Employee::getSalary).reversed())
-                .limit(10)
+        return getTopEmployees(RankBy.SALARY, 10).stream()
                 .map(Employee::getName)
                 .collect(Collectors.toList());
     }
 
+    /**
+     * Returns up to {@code limit} employees ranked highest by {@code by}, highest first, with ties in roster order.
+     */
+    public List<Employee> getTopEmployees(RankBy by, int limit) {
+        logger.debug("Finding top {} employees by {}", limit, by);
+        if (!rosterCache.isEnabled()) {
+            return collectRoster(Collectors.filtering(by::isRanked, TopK.collector(limit, by.order())));
+        }
+        return roster().top(by, limit);
+    }
+
     public Employee createEmployee(EmployeeRequest employee) {
         logger.debug("Creating a new employee");
-        ResponseEntity<EmployeeServiceResponse> response =
-                restTemplate.postForEntity(employeeApiBaseUrl, employee, EmployeeServiceResponse.class);
-        return objectMapper.convertValue(handleResponse(response).getData(), new TypeReference<Employee>() {});
+        Employee createdEmployee =
+                upstream(Operation.CREATE, "create", Priority.INTERACTIVE, () -> employeeClient.create(employee));
+        nameRegistry.record(createdEmployee);
+        rosterCache.apply(roster -> roster.put(createdEmployee));
+        return createdEmployee;
     }
 
     public String deleteEmployeeById(String id) {
         logger.info("Deleting employee with ID: {}", id);
-        // First get the employee to return their name
+        // a name shared with another known employee could delete the namesake instead
+        Optional<String> knownName = nameRegistry.uniqueNameOf(id);
+        if (knownName.isPresent()) {
+            if (deleteByName(knownName.get())) {
+                onDeleted(id);
+                return knownName.get();
+            }
+            // the employee may have been deleted or renamed behind our back; check upstream before giving up
+            logger.warn("Delete by known name failed for employee {}, looking the employee up", id);
+            nameRegistry.forget(id);
+        }
+
+        nameRegistry.recordFallback();
         Employee employee = getEmployeeById(id);
         if (employee == null) {
             logger.error("Employee Not found with Id : {}", id);
             throw new ResourceNotFoundException("Employee not found with ID: " + id);
         }
 
-        ResponseEntity<EmployeeServiceResponse> response = restTemplate.exchange(
-                employeeApiBaseUrl,
-                HttpMethod.DELETE,
-                new HttpEntity<>(Map.entry("name", employee.getName())),
-                EmployeeServiceResponse.class);
-
-        if ((boolean) handleResponse(response).getData()) {
+        if (deleteByName(employee.getName())) {
+            onDeleted(id);
             return employee.getName();
         } else {
             logger.error("Unable to delete resource with name : {}", employee.getName());
@@ -112,16 +159,175 @@ public class EmployeeService {
         }
     }
 
-    private EmployeeServiceResponse handleResponse(ResponseEntity<EmployeeServiceResponse> response) {
-        logger.info("Response received : {}", response);
-        if (response.getStatusCode().is2xxSuccessful()) {
-            return response.getBody();
-        } else if (response.getStatusCode().value() == 404) {
-            logger.error("Failed to find resource, Please check the input provided");
-            throw new ResourceNotFoundException("Failed to find resource, Please check the input provided");
-        } else {
-            logger.error("Failed to get employee: {}", response.getStatusCode());
-            throw new ApiException("Failed to get employee: " + response.getStatusCode());
+    private boolean deleteByName(String name) {
+        return upstream(Operation.DELETE, "delete", Priority.INTERACTIVE, () -> employeeClient.deleteByName(name));
+    }
+
+    private void onDeleted(String id) {
+        nameRegistry.forget(id);
+        rosterCache.apply(roster -> roster.remove(id));
+    }
+
+    private EmployeeRoster roster() {
+        return rosterCache.get(this::fetchAllEmployees);
+    }
+
+    /**
+     * Reduces the upstream roster with {@code collector} as it is read. Used when nothing is cached, where loading the
+     * roster would hold every employee, and index them, only for a query to reduce them to a few. The employees are
+     * deliberately not fed to the name registry either, so the memory a query needs is bounded by its result.
+     */
+    private <A, R> R collectRoster(Collector<Employee, A, R> collector) {
+        return upstream(Operation.READ, "fetch_each", Priority.INTERACTIVE, () -> {
+            // a fresh container per attempt, so a retried call does not count anyone twice
+            A container = collector.supplier().get();
+            employeeClient.fetchEach(employee -> collector.accumulator().accept(container, employee));
+            return collector.finisher().apply(container);
+        });
+    }
+
+    private Refresh fetchAllEmployees(boolean background, String etag) {
+        Priority priority = background ? Priority.BACKGROUND : Priority.INTERACTIVE;
+        // callers revalidating different copies must not share an answer
+        return rosterFetches.execute(ROSTER_KEY + ":" + etag, () -> {
+            if (etag != null && rosterCache.isIncrementalSync()) {
+                Optional<EmployeeChanges> changes = upstream(
+                        Operation.READ,
+                        "fetch_changes",
+                        priority,
+                        () -> employeeClient.fetchChangesSince(versionOf(etag)));
+                if (changes.isPresent()) {
+                    return applyChanges(changes.get());
+                }
+                logger.info("Employee changes since {} are unavailable, fetching all employees", etag);
+            }
+
+            logger.debug("Fetching all employees from API");
+            Optional<VersionedRoster> roster = rosterPaging.isEnabled()
+                    ? fetchAllPages(priority, etag)
+                    : upstream(Operation.READ, "fetch_all", priority, () -> employeeClient.fetchAllIfNoneMatch(etag));
+            if (roster.isEmpty()) {
+                return Refresh.notModified(etag);
+            }
+            nameRegistry.replaceAll(roster.get().employees());
+            return Refresh.full(roster.get().employees(), roster.get().etag());
+        });
+    }
+
+    /**
+     * Fetches the roster a page at a time. The first page revalidates {@code etag} and pins the roster version; the
+     * rest are addressed by offset within that version and fetched in parallel, each as its own upstream call within
+     * the bulkhead and the rate budget.
+     */
+    private Optional<VersionedRoster> fetchAllPages(Priority priority, String etag) {
+        int pageSize = rosterPaging.pageSize();
+        Optional<EmployeePage> first = upstream(
+                Operation.READ, "fetch_page", priority, () -> employeeClient.fetchPage(null, pageSize, etag));
+        if (first.isEmpty()) {
+            return Optional.empty();
+        }
+        EmployeePage firstPage = first.get();
+        if (firstPage.nextCursor() == null) {
+            return Optional.of(new VersionedRoster(firstPage.employees(), firstPage.etag()));
+        }
+
+        List<Employee> employees = new ArrayList<>(firstPage.total());
+        employees.addAll(firstPage.employees());
+        try {
+            if (firstPage.etag() == null) {
+                // without the version, the only way to the later pages is through their cursors, one after the other
+                for (String cursor = firstPage.nextCursor(); cursor != null; ) {
+                    EmployeePage page = fetchPage(priority, cursor, pageSize);
+                    employees.addAll(page.employees());
+                    cursor = page.nextCursor();
+                }
+                return Optional.of(new VersionedRoster(employees, null));
+            }
+
+            String version = versionOf(firstPage.etag());
+            int offset = firstPage.employees().size();
+            int pages = (firstPage.total() - offset + pageSize - 1) / pageSize;
+            rosterPaging
+                    .fetch(pages, page -> fetchPage(priority, cursorOf(version, offset + page * pageSize), pageSize))
+                    .forEach(page -> employees.addAll(page.employees()));
+        } catch (HttpClientErrorException.Gone e) {
+            logger.info("Employee roster {} expired while paging through it, fetching all employees", firstPage.etag());
+            return upstream(Operation.READ, "fetch_all", priority, () -> employeeClient.fetchAllIfNoneMatch(null));
+        }
+        logger.debug("Fetched {} employees in pages of {}", employees.size(), pageSize);
+        return Optional.of(new VersionedRoster(employees, firstPage.etag()));
+    }
+
+    private EmployeePage fetchPage(Priority priority, String cursor, int pageSize) {
+        return upstream(Operation.READ, "fetch_page", priority, () -> employeeClient.fetchPage(cursor, pageSize, null))
+                .orElseThrow(() -> new IllegalStateException("Upstream answered a page request with 304"));
+    }
+
+    private Refresh applyChanges(EmployeeChanges changes) {
+        logger.debug("Applying {} employee changes up to version {}", changes.changes().size(), changes.version());
+        for (EmployeeChange change : changes.changes()) {
+            if (change.type() == EmployeeChange.Type.CREATED) {
+                nameRegistry.record(change.employee());
+            } else {
+                nameRegistry.forget(change.employee().getId());
+            }
         }
+        // creates are puts and deletes are removes by id, so changes we already applied locally are harmless
+        return Refresh.changes(
+                roster -> changes.changes().forEach(change -> {
+                    if (change.type() == EmployeeChange.Type.CREATED) {
+                        roster.put(change.employee());
+                    } else {
+                        roster.remove(change.employee().getId());
+                    }
+                }),
+                etagOf(changes.version()));
+    }
+
+    /*
+     * The employee API's roster ETag is its roster version in a weak validator, W/"<version>".
+     */
+    private static String versionOf(String etag) {
+        return etag.replaceFirst("^W/", "").replace("\"", "");
+    }
+
+    private static String etagOf(String version) {
+        return "W/\"" + version + "\"";
+    }
+
+    /*
+     * The employee API's page cursors are <roster version>:<offset>.
+     */
+    private static String cursorOf(String version, int offset) {
+        return version + ":" + offset;
+    }
+
+    private Employee fetchEmployeeById(String id) {
+        Employee employee;
+        try {
+            employee =
+                    upstream(Operation.READ, "fetch_by_id", Priority.INTERACTIVE, () -> employeeClient.fetchById(id));
+        } catch (UpstreamUnavailableException e) {
+            // answer from the last roster we loaded, however old, rather than failing outright
+            return rosterCache.peek().flatMap(roster -> roster.findById(id)).orElseThrow(() -> e);
+        } catch (HttpClientErrorException e) {
+            logger.error("Error occurred in geting employee data by id  cause : {}", e);
+            throw new ApiException(
+                    "Error occurred in getting employee data by id  cause : {}",
+                    e.getStatusCode().value());
+        }
+        nameRegistry.record(employee);
+        return employee;
+    }
+
+    /**
+     * Calls the employee API behind the operation's bulkhead, the circuit breaker and the rate limiter, in that order,
+     * timing each attempt that reaches upstream as {@code name}.
+     */
+    private <T> T upstream(Operation operation, String name, Priority priority, Supplier<T> call) {
+        return bulkhead.execute(
+                operation,
+                () -> circuitBreaker.execute(
+                        () -> rateLimiter.execute(priority, () -> upstreamMetrics.record(name, call))));
     }
 }
@@ -0,0 +1,351 @@
+package com.reliaquest.api;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.reliaquest.api.model.Employee;
+import com.reliaquest.server.ServerApplication;
+import java.io.IOException;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Random;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.locks.LockSupport;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.servlet.context.ServletWebServerApplicationContext;
+
+/**
+ * Boots the mock server and the API on random ports in this JVM and drives the API's seven endpoints with an
+ * open-loop generator: requests are sent on a fixed schedule at {@code loadtest.rps} whether or not earlier ones have
+ * completed, and latency is measured from each request's scheduled send time, so a stalled server shows up as latency
+ * instead of as a lower request rate. Reports throughput, latency percentiles and errors per operation.
+ *
+ * <p>Run with {@code ./gradlew api:benchmark --tests '*EndToEndLoadBenchmarkTest'} and tune it with system
+ * properties:
+ *
+ * <ul>
+ *   <li>{@code loadtest.rps} (200), {@code loadtest.seconds} (30), {@code loadtest.warmup-seconds} (5)
+ *   <li>{@code loadtest.employees} (50), the size of the mock server's roster
+ *   <li>{@code loadtest.mix}, operation weights, e.g. {@code getAll=20,search=20,getById=30,highestSalary=10,
+ *       topTen=10,create=5,delete=5}
+ *   <li>{@code loadtest.max-error-rate} (0.01), above which the run fails
+ *   <li>{@code loadtest.server.<property>} and {@code loadtest.api.<property>}, passed on to the mock server and the
+ *       API. Both rate limits are off by default; {@code -Dloadtest.server.mock.rate-limit.enabled=true} turns the
+ *       server's back on and {@code loadtest.server.mock.rate-limit.min-requests} etc. tune it.
+ * </ul>
+ */
+@Tag("benchmark")
+class EndToEndLoadBenchmarkTest {
+
+    private static final Logger logger = LoggerFactory.getLogger(EndToEndLoadBenchmarkTest.class);
+
+    private static final int RPS = Integer.getInteger("loadtest.rps", 200);
+    private static final Duration DURATION = Duration.ofSeconds(Integer.getInteger("loadtest.seconds", 30));
+    private static final Duration WARMUP = Duration.ofSeconds(Integer.getInteger("loadtest.warmup-seconds", 5));
+    private static final int EMPLOYEES = Integer.getInteger("loadtest.employees", 50);
+    private static final String MIX = System.getProperty(
+            "loadtest.mix", "getAll=20,search=20,getById=30,highestSalary=10,topTen=10,create=5,delete=5");
+    private static final double MAX_ERROR_RATE =
+            Double.parseDouble(System.getProperty("loadtest.max-error-rate", "0.01"));
+
+    private static final ObjectMapper objectMapper = new ObjectMapper();
+
+    private static ServletWebServerApplicationContext server;
+    private static ServletWebServerApplicationContext api;
+    private static String baseUrl;
+
+    @BeforeAll
+    static void start() {
+        Map<String, String> serverProperties = new LinkedHashMap<>();
+        // the API's application.yml comes first on this classpath, so the server gets its settings from here
+        serverProperties.put("spring.config.name", "loadtest-mock-server");
+        serverProperties.put("server.port", "0");
+        serverProperties.put("server.compression.enabled", "true");
+        serverProperties.put("mock.employees.max", String.valueOf(EMPLOYEES));
+        serverProperties.put("mock.rate-limit.enabled", "false");
+        serverProperties.put("logging.level.com.reliaquest", "WARN");
+        server = boot(ServerApplication.class, serverProperties, "loadtest.server.");
+
+        Map<String, String> apiProperties = new LinkedHashMap<>();
+        apiProperties.put("server.port", "0");
+        apiProperties.put(
+                "api.employee.baseUrl",
+                "http://localhost:" + server.getWebServer().getPort() + "/api/v1/employee");
+        apiProperties.put("api.employee.rate-limit.enabled", "false");
+        apiProperties.put("logging.level.com.reliaquest", "WARN");
+        api = boot(ApiApplication.class, apiProperties, "loadtest.api.");
+        baseUrl = "http://localhost:" + api.getWebServer().getPort() + "/api/v1/employee";
+    }
+
+    @AfterAll
+    static void stop() {
+        if (api != null) {
+            api.close();
+        }
+        if (server != null) {
+            server.close();
+        }
+    }
+
+    @Test
+    void openLoop() throws Exception {
+        HttpClient client = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(10))
+                .build();
+        HttpResponse<String> roster = client.send(
+                HttpRequest.newBuilder(URI.create(baseUrl)).build(), HttpResponse.BodyHandlers.ofString());
+        assertEquals(200, roster.statusCode(), roster.body());
+        Workload workload = new Workload(objectMapper.readValue(roster.body(), new TypeReference<>() {}));
+
+        drive(client, workload, WARMUP);
+        Map<Operation, Stats> results = drive(client, workload, DURATION);
+
+        logger.info(String.format(
+                "%-14s %9s %9s %10s %10s %10s %10s %7s",
+                "operation", "requests", "req/s", "p50 (ms)", "p99 (ms)", "p99.9 (ms)", "max (ms)", "errors"));
+        Stats total = new Stats();
+        results.forEach((operation, stats) -> {
+            report(operation.key, stats);
+            total.addAll(stats);
+        });
+        report("total", total);
+
+        assertTrue(total.count > 0);
+        assertTrue(
+                total.errors <= total.count * MAX_ERROR_RATE,
+                total.errors + " of " + total.count + " requests failed");
+    }
+
+    private static Map<Operation, Stats> drive(HttpClient client, Workload workload, Duration duration)
+            throws InterruptedException {
+        Map<Operation, Stats> results = new EnumMap<>(Operation.class);
+        for (Operation operation : Operation.values()) {
+            results.put(operation, new Stats());
+        }
+        Random random = new Random(42);
+        long interval = 1_000_000_000L / RPS;
+        long requests = duration.toNanos() / interval;
+        List<CompletableFuture<?>> futures = new ArrayList<>();
+
+        long startedAt = System.nanoTime();
+        for (long i = 0; i < requests; i++) {
+            long scheduledAt = startedAt + i * interval;
+            long delay = scheduledAt - System.nanoTime();
+            if (delay > 0) {
+                LockSupport.parkNanos(delay);
+            }
+            if (Thread.interrupted()) {
+                throw new InterruptedException();
+            }
+
+            Operation operation = workload.next(random);
+            HttpRequest request = workload.request(operation, random);
+            futures.add(client.sendAsync(request, HttpResponse.BodyHandlers.ofString())
+                    .whenComplete((response, failure) -> {
+                        boolean ok = failure == null && response.statusCode() / 100 == 2;
+                        results.get(operation).record(System.nanoTime() - scheduledAt, ok);
+                        if (ok && operation == Operation.CREATE) {
+                            workload.created(response.body());
+                        }
+                    }));
+        }
+        CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new))
+                .exceptionally(failure -> null)
+                .join();
+        double elapsedSeconds = (System.nanoTime() - startedAt) / 1e9;
+        results.values().forEach(stats -> stats.elapsedSeconds = elapsedSeconds);
+        return results;
+    }
+
+    private static void report(String operation, Stats stats) {
+        logger.info(String.format(
+                "%-14s %9d %9.0f %10.1f %10.1f %10.1f %10.1f %7d",
+                operation,
+                stats.count,
+                stats.count / stats.elapsedSeconds,
+                stats.percentileMillis(0.5),
+                stats.percentileMillis(0.99),
+                stats.percentileMillis(0.999),
+                stats.percentileMillis(1.0),
+                stats.errors));
+    }
+
+    private static ServletWebServerApplicationContext boot(
+            Class<?> application, Map<String, String> properties, String overridePrefix) {
+        System.getProperties().stringPropertyNames().stream()
+                .filter(name -> name.startsWith(overridePrefix))
+                .forEach(name -> properties.put(name.substring(overridePrefix.length()), System.getProperty(name)));
+        String[] args = properties.entrySet().stream()
+                .map(property -> "--" + property.getKey() + "=" + property.getValue())
+                .toArray(String[]::new);
+        return (ServletWebServerApplicationContext) new SpringApplicationBuilder(application).run(args);
+    }
+
+    private enum Operation {
+        GET_ALL("getAll"),
+        SEARCH("search"),
+        GET_BY_ID("getById"),
+        HIGHEST_SALARY("highestSalary"),
+        TOP_TEN("topTen"),
+        CREATE("create"),
+        DELETE("delete");
+
+        private final String key;
+
+        Operation(String key) {
+            this.key = key;
+        }
+
+        private static Operation of(String key) {
+            return Arrays.stream(values())
+                    .filter(operation -> operation.key.equals(key))
+                    .findFirst()
+                    .orElseThrow(() -> new IllegalArgumentException("Unknown operation in loadtest.mix: " + key));
+        }
+    }
+
+    /**
+     * Picks operations by weight and builds their requests. Lookups and searches target the roster the run started
+     * with; deletes take employees created earlier in the run, so the roster keeps its size. Only the generator thread
+     * takes from {@link #createdIds}.
+     */
+    private static final class Workload {
+
+        private final List<Employee> roster;
+        private final Operation[] operations;
+        private final int[] cumulativeWeights;
+        private final Queue<String> createdIds = new ConcurrentLinkedQueue<>();
+
+        private Workload(List<Employee> roster) {
+            this.roster = roster;
+            String[] entries = MIX.split(",");
+            operations = new Operation[entries.length];
+            cumulativeWeights = new int[entries.length];
+            int total = 0;
+            for (int i = 0; i < entries.length; i++) {
+                String[] entry = entries[i].trim().split("=");
+                operations[i] = Operation.of(entry[0].trim());
+                total += Integer.parseInt(entry[1].trim());
+                cumulativeWeights[i] = total;
+            }
+        }
+
+        private Operation next(Random random) {
+            int pick = random.nextInt(cumulativeWeights[cumulativeWeights.length - 1]);
+            int i = 0;
+            while (pick >= cumulativeWeights[i]) {
+                i++;
+            }
+            // nothing of ours to delete yet; a 404 here would only measure the error path
+            return operations[i] == Operation.DELETE && createdIds.isEmpty() ? Operation.CREATE : operations[i];
+        }
+
+        private HttpRequest request(Operation operation, Random random) {
+            Employee employee = roster.get(random.nextInt(roster.size()));
+            return switch (operation) {
+                case GET_ALL -> get("");
+                case SEARCH -> get("/search/" + fragment(employee.getName(), random));
+                case GET_BY_ID -> get("/" + employee.getId());
+                case HIGHEST_SALARY -> get("/highestSalary");
+                case TOP_TEN -> get("/topTenHighestEarningEmployeeNames");
+                case CREATE -> create(random);
+                case DELETE -> delete(createdIds.remove());
+            };
+        }
+
+        private void created(String body) {
+            try {
+                createdIds.add(objectMapper.readValue(body, Employee.class).getId());
+            } catch (IOException e) {
+                throw new IllegalStateException("Unexpected create response: " + body, e);
+            }
+        }
+
+        private static String fragment(String name, Random random) {
+            int length = Math.min(3, name.length());
+            int offset = random.nextInt(name.length() - length + 1);
+            return URLEncoder.encode(name.substring(offset, offset + length), StandardCharsets.UTF_8)
+                    .replace("+", "%20");
+        }
+
+        private static HttpRequest get(String path) {
+            return HttpRequest.newBuilder(URI.create(baseUrl + path))
+                    .timeout(Duration.ofSeconds(30))
+                    .build();
+        }
+
+        private static HttpRequest create(Random random) {
+            String body = String.format(
+                    "{\"name\":\"Load Test %d\",\"salary\":%d,\"age\":%d,\"title\":\"Engineer\"}",
+                    random.nextInt(1_000_000), 30_000 + random.nextInt(470_000), 16 + random.nextInt(59));
+            return HttpRequest.newBuilder(URI.create(baseUrl))
+                    .timeout(Duration.ofSeconds(30))
+                    .header("Content-Type", "application/json")
+                    .POST(HttpRequest.BodyPublishers.ofString(body))
+                    .build();
+        }
+
+        private static HttpRequest delete(String id) {
+            return HttpRequest.newBuilder(URI.create(baseUrl + "/" + id))
+                    .timeout(Duration.ofSeconds(30))
+                    .DELETE()
+                    .build();
+        }
+    }
+
+    private static final class Stats {
+
+        private long[] latencies = new long[1024];
+        private int count;
+        private int errors;
+        private double elapsedSeconds;
+
+        private synchronized void record(long latencyNanos, boolean ok) {
+            if (count == latencies.length) {
+                latencies = Arrays.copyOf(latencies, count * 2);
+            }
+            latencies[count++] = latencyNanos;
+            if (!ok) {
+                errors++;
+            }
+        }
+
+        private synchronized void addAll(Stats other) {
+            for (int i = 0; i < other.count; i++) {
+                record(other.latencies[i], true);
+            }
+            errors += other.errors;
+            elapsedSeconds = other.elapsedSeconds;
+        }
+
+        private synchronized double percentileMillis(double percentile) {
+            if (count == 0) {
+                return 0;
+            }
+            long[] sorted = Arrays.copyOf(latencies, count);
+            Arrays.sort(sorted);
+            return sorted[Math.min(count - 1, (int) (count * percentile))] / 1e6;
+        }
+    }
+}
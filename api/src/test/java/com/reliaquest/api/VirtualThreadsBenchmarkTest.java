@@ -0,0 +1,183 @@
+package com.reliaquest.api;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.sun.net.httpserver.HttpServer;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledForJreRange;
+import org.junit.jupiter.api.condition.JRE;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.servlet.context.ServletWebServerApplicationContext;
+
+/**
+ * Boots the API once on Tomcat's platform thread pool and once with the {@code virtual-threads} profile, in front of
+ * a local upstream that takes {@link #UPSTREAM_LATENCY} per request, and compares throughput and latency of by-id
+ * lookups at high concurrency. Run with {@code ./gradlew api:benchmark -PjavaVersion=21}.
+ */
+@Tag("benchmark")
+@EnabledForJreRange(min = JRE.JAVA_21)
+class VirtualThreadsBenchmarkTest {
+
+    private static final Logger logger = LoggerFactory.getLogger(VirtualThreadsBenchmarkTest.class);
+
+    private static final Duration UPSTREAM_LATENCY = Duration.ofMillis(200);
+    private static final int CONCURRENCY = 1_000;
+    private static final int REQUESTS = 10_000;
+
+    private static HttpServer upstream;
+    private static ExecutorService upstreamExecutor;
+    private static String upstreamUrl;
+
+    @BeforeAll
+    static void startUpstream() throws IOException {
+        upstreamExecutor = Executors.newCachedThreadPool();
+        upstream = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 4096);
+        upstream.setExecutor(upstreamExecutor);
+        upstream.createContext("/api/v1/employee/", exchange -> {
+            String path = exchange.getRequestURI().getPath();
+            String id = path.substring(path.lastIndexOf('/') + 1);
+            byte[] body = ("{\"data\":{\"id\":\"" + id + "\",\"employee_name\":\"Employee\",\"employee_salary\":50000,"
+                            + "\"employee_age\":30,\"employee_title\":\"Engineer\"},\"status\":\"ok\"}")
+                    .getBytes(StandardCharsets.UTF_8);
+            try {
+                Thread.sleep(UPSTREAM_LATENCY.toMillis());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            exchange.getResponseHeaders().set("Content-Type", "application/json");
+            exchange.sendResponseHeaders(200, body.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(body);
+            }
+        });
+        upstream.start();
+        upstreamUrl = "http://localhost:" + upstream.getAddress().getPort() + "/api/v1/employee";
+    }
+
+    @AfterAll
+    static void stopUpstream() {
+        upstream.stop(0);
+        upstreamExecutor.shutdownNow();
+    }
+
+    @Test
+    void compareThreadModels() throws Exception {
+        Result platform = run(false);
+        Result virtual = run(true);
+
+        logger.info(String.format(
+                "%-9s %11s %12s %10s %10s %8s", "threads", "concurrency", "req/s", "p50 (ms)", "p99 (ms)", "errors"));
+        report("platform", platform);
+        report("virtual", virtual);
+        // shed or failed requests would make a run look fast, so both must have answered every request
+        assertEquals(0, platform.errors(), "platform thread errors");
+        assertEquals(0, virtual.errors(), "virtual thread errors");
+        assertTrue(virtual.throughput() > platform.throughput());
+    }
+
+    private static Result run(boolean virtualThreads) throws Exception {
+        List<String> args = new ArrayList<>(List.of(
+                "--server.port=0",
+                "--api.employee.baseUrl=" + upstreamUrl,
+                "--api.employee.rate-limit.enabled=false",
+                "--api.employee.http.max-connections=" + CONCURRENCY,
+                "--api.employee.http.max-connections-per-route=" + CONCURRENCY,
+                "--logging.level.com.reliaquest=WARN"));
+        if (virtualThreads) {
+            // the profile raises the bulkhead's read limit to its connection pool
+            args.add("--spring.profiles.active=virtual-threads");
+        } else {
+            // the default read limit would shed what the thread model is being measured on
+            args.add("--api.employee.bulkhead.read=" + CONCURRENCY);
+        }
+
+        try (ServletWebServerApplicationContext context = (ServletWebServerApplicationContext)
+                new SpringApplicationBuilder(ApiApplication.class).run(args.toArray(String[]::new))) {
+            String baseUrl = "http://localhost:" + context.getWebServer().getPort() + "/api/v1/employee/";
+            ExecutorService clientExecutor = Executors.newFixedThreadPool(16);
+            try {
+                HttpClient client = HttpClient.newBuilder()
+                        .version(HttpClient.Version.HTTP_1_1)
+                        .executor(clientExecutor)
+                        .connectTimeout(Duration.ofSeconds(10))
+                        .build();
+
+                // warm up the connection pools and the JIT
+                load(client, baseUrl, 1_000);
+                return load(client, baseUrl, REQUESTS);
+            } finally {
+                clientExecutor.shutdownNow();
+            }
+        }
+    }
+
+    private static Result load(HttpClient client, String baseUrl, int requests) throws InterruptedException {
+        Semaphore permits = new Semaphore(CONCURRENCY);
+        long[] latencies = new long[requests];
+        List<CompletableFuture<?>> futures = new ArrayList<>(requests);
+        int[] errors = new int[1];
+
+        long startedAt = System.nanoTime();
+        for (int i = 0; i < requests; i++) {
+            int index = i;
+            permits.acquire();
+            HttpRequest request = HttpRequest.newBuilder(URI.create(baseUrl + UUID.randomUUID()))
+                    .timeout(Duration.ofSeconds(60))
+                    .build();
+            long sentAt = System.nanoTime();
+            futures.add(client.sendAsync(request, HttpResponse.BodyHandlers.discarding())
+                    .whenComplete((response, failure) -> {
+                        latencies[index] = System.nanoTime() - sentAt;
+                        if (failure != null || response.statusCode() != 200) {
+                            synchronized (errors) {
+                                errors[0]++;
+                            }
+                        }
+                        permits.release();
+                    }));
+        }
+        CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new))
+                .exceptionally(failure -> null)
+                .join();
+        long elapsed = System.nanoTime() - startedAt;
+
+        Arrays.sort(latencies);
+        // only successful responses count towards throughput
+        return new Result(
+                (requests - errors[0]) * 1e9 / elapsed,
+                latencies[requests / 2] / 1e6,
+                latencies[(int) (requests * 0.99)] / 1e6,
+                errors[0]);
+    }
+
+    private static void report(String threads, Result result) {
+        logger.info(String.format(
+                "%-9s %11d %12.0f %10.1f %10.1f %8d",
+                threads, CONCURRENCY, result.throughput(), result.p50Millis(), result.p99Millis(), result.errors()));
+    }
+
+    private record Result(double throughput, double p50Millis, double p99Millis, int errors) {}
+}
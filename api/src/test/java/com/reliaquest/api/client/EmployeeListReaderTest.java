@@ -0,0 +1,100 @@
+package com.reliaquest.api.client;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.reliaquest.api.model.Employee;
+import com.reliaquest.api.model.EmployeeServiceResponse;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.Test;
+
+class EmployeeListReaderTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final EmployeeListReader reader = new EmployeeListReader(objectMapper);
+
+    @Test
+    void read_shouldHandEachEmployeeOverInOrder() throws IOException {
+        List<Employee> employees = employees(100);
+        List<Employee> read = new ArrayList<>();
+
+        reader.read(new ByteArrayInputStream(body(employees)), read::add);
+
+        assertEquals(json(employees), json(read));
+    }
+
+    @Test
+    void read_shouldSkipEverythingButTheDataArray() throws IOException {
+        String body = "{\"status\":\"Successfully processed request.\",\"meta\":{\"data\":[{\"id\":\"x\"}]},"
+                + "\"data\":[{\"id\":\"1\",\"employee_name\":\"John Doe\",\"extra\":{\"a\":[1,2]}},null,"
+                + "{\"id\":\"2\",\"employee_name\":\"Jane Doe\"}],\"error\":null}";
+        List<String> names = new ArrayList<>();
+
+        reader.read(new ByteArrayInputStream(body.getBytes(StandardCharsets.UTF_8)), employee ->
+                names.add(employee.getName()));
+
+        assertEquals(List.of("John Doe", "Jane Doe"), names);
+    }
+
+    @Test
+    void feed_shouldReadBodiesSplitAnywhere() throws IOException {
+        List<Employee> employees = employees(50);
+        byte[] body = body(employees);
+
+        for (int chunkSize : new int[] {1, 7, 256, body.length}) {
+            List<Employee> read = new ArrayList<>();
+            EmployeeListReader.Feed feed = reader.feed(read::add);
+            for (int offset = 0; offset < body.length; offset += chunkSize) {
+                // a fresh array per chunk, as a network buffer would be
+                byte[] chunk = Arrays.copyOfRange(body, offset, Math.min(body.length, offset + chunkSize));
+                feed.accept(chunk, 0, chunk.length);
+            }
+            feed.finish();
+
+            assertEquals(json(employees), json(read), "chunks of " + chunkSize);
+        }
+    }
+
+    @Test
+    void feed_shouldFailOnTruncatedBody() throws IOException {
+        byte[] body = body(employees(3));
+        EmployeeListReader.Feed feed = reader.feed(employee -> {});
+
+        feed.accept(body, 0, body.length / 2);
+
+        assertThrows(IOException.class, feed::finish);
+    }
+
+    private byte[] body(List<Employee> employees) throws JsonProcessingException {
+        EmployeeServiceResponse<List<Employee>> response = new EmployeeServiceResponse<>();
+        response.setData(employees);
+        response.setStatus("Successfully processed request.");
+        return objectMapper.writeValueAsBytes(response);
+    }
+
+    private String json(List<Employee> employees) throws JsonProcessingException {
+        return objectMapper.writeValueAsString(employees);
+    }
+
+    private static List<Employee> employees(int count) {
+        return IntStream.range(0, count)
+                .mapToObj(i -> {
+                    Employee employee = new Employee();
+                    employee.setId("id-" + i);
+                    employee.setName("Employee " + i);
+                    employee.setSalary(i % 7 == 0 ? null : 50_000 + i);
+                    employee.setAge(20 + i % 40);
+                    employee.setTitle("Engineer");
+                    employee.setEmail("employee" + i + "@company.com");
+                    return employee;
+                })
+                .toList();
+    }
+}
@@ -0,0 +1,58 @@
+package com.reliaquest.api.client;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import com.reliaquest.api.model.Employee;
+import com.reliaquest.api.model.EmployeeChange;
+import com.reliaquest.api.model.EmployeeChanges;
+import com.reliaquest.api.model.EmployeeServiceResponse;
+import java.util.List;
+import java.util.Optional;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.RestTemplate;
+
+@ExtendWith(MockitoExtension.class)
+class RestTemplateEmployeeClientTest {
+
+    private static final String CHANGES_URL = "http://localhost:8112/api/v1/employee/changes?since={since}";
+    private static final ParameterizedTypeReference<EmployeeServiceResponse<EmployeeChanges>> CHANGES_RESPONSE =
+            new ParameterizedTypeReference<>() {};
+
+    @Mock
+    private RestTemplate restTemplate;
+
+    @Test
+    void fetchChangesSince_shouldReturnEmptyOnceChangesAreGone() {
+        Employee employee = new Employee();
+        employee.setId("1");
+        employee.setName("John Doe");
+        EmployeeServiceResponse<EmployeeChanges> response = new EmployeeServiceResponse<>();
+        response.setData(
+                new EmployeeChanges("1-8", List.of(new EmployeeChange(8, EmployeeChange.Type.DELETED, employee))));
+        response.setStatus("Successfully processed request.");
+        when(restTemplate.exchange(CHANGES_URL, HttpMethod.GET, null, CHANGES_RESPONSE, "1-7"))
+                .thenReturn(ResponseEntity.ok(response));
+        when(restTemplate.exchange(CHANGES_URL, HttpMethod.GET, null, CHANGES_RESPONSE, "1-2"))
+                .thenThrow(HttpClientErrorException.create(HttpStatus.GONE, "Gone", HttpHeaders.EMPTY, null, null));
+        RestTemplateEmployeeClient client =
+                new RestTemplateEmployeeClient(restTemplate, "http://localhost:8112/api/v1/employee");
+
+        Optional<EmployeeChanges> changes = client.fetchChangesSince("1-7");
+
+        assertTrue(changes.isPresent());
+        assertEquals("1-8", changes.get().version());
+        assertEquals(EmployeeChange.Type.DELETED, changes.get().changes().get(0).type());
+        assertEquals("1", changes.get().changes().get(0).employee().getId());
+        assertTrue(client.fetchChangesSince("1-2").isEmpty());
+    }
+}
@@ -0,0 +1,61 @@
+package com.reliaquest.api.client;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.client.HttpClientErrorException;
+
+class RosterPagingTest {
+
+    @Test
+    void fetch_shouldReturnPagesInOrderWithinParallelism() {
+        AtomicInteger inFlight = new AtomicInteger();
+        AtomicInteger maxInFlight = new AtomicInteger();
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            RosterPaging paging = new RosterPaging(true, 100, 3, executor);
+
+            List<Integer> pages = paging.fetch(50, page -> {
+                maxInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+                try {
+                    Thread.sleep(2);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                inFlight.decrementAndGet();
+                return page;
+            });
+
+            assertEquals(IntStream.range(0, 50).boxed().toList(), pages);
+            assertTrue(maxInFlight.get() <= 3, "at most 3 pages in flight, saw " + maxInFlight.get());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void fetch_shouldCompleteOnTheCallingThreadWhenTheExecutorIsBusy() {
+        RosterPaging paging = new RosterPaging(true, 100, 4, task -> {});
+
+        assertEquals(List.of(0, 1, 2), paging.fetch(3, page -> page));
+    }
+
+    @Test
+    void fetch_shouldRethrowTheFirstFailure() {
+        RosterPaging paging = new RosterPaging(true, 100, 4, Runnable::run);
+
+        assertThrows(HttpClientErrorException.Gone.class, () -> paging.fetch(10, page -> {
+            if (page == 5) {
+                throw HttpClientErrorException.create(HttpStatus.GONE, "Gone", HttpHeaders.EMPTY, null, null);
+            }
+            return page;
+        }));
+    }
+}
@@ -0,0 +1,77 @@
+package com.reliaquest.api.client;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Test;
+
+class SingleFlightTest {
+
+    private final SingleFlight<String, String> singleFlight = new SingleFlight<>();
+
+    @Test
+    void execute_shouldShareOneCallBetweenConcurrentCallers() throws Exception {
+        int callers = 16;
+        AtomicInteger upstreamCalls = new AtomicInteger();
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(callers);
+        try {
+            List<Future<String>> results = new ArrayList<>();
+            for (int i = 0; i < callers; i++) {
+                results.add(executor.submit(() -> singleFlight.execute("roster", () -> {
+                    upstreamCalls.incrementAndGet();
+                    await(release);
+                    return "result";
+                })));
+            }
+            while (singleFlight.coalescedCalls() < callers - 1) {
+                Thread.onSpinWait();
+            }
+            release.countDown();
+
+            for (Future<String> result : results) {
+                assertEquals("result", result.get(5, TimeUnit.SECONDS));
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertEquals(1, upstreamCalls.get());
+        assertEquals(0, singleFlight.inFlight());
+    }
+
+    @Test
+    void execute_shouldNotCacheResultsOnceCallCompletes() {
+        AtomicInteger upstreamCalls = new AtomicInteger();
+
+        singleFlight.execute("roster", () -> "first" + upstreamCalls.incrementAndGet());
+        String second = singleFlight.execute("roster", () -> "second" + upstreamCalls.incrementAndGet());
+
+        assertEquals("second2", second);
+        assertEquals(0, singleFlight.coalescedCalls());
+    }
+
+    @Test
+    void execute_shouldPropagateFailureAndReleaseKey() {
+        assertThrows(IllegalStateException.class, () -> singleFlight.execute("roster", () -> {
+            throw new IllegalStateException("upstream failed");
+        }));
+
+        assertEquals("recovered", singleFlight.execute("roster", () -> "recovered"));
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
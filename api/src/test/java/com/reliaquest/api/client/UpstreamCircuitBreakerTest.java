@@ -0,0 +1,129 @@
+package com.reliaquest.api.client;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.reliaquest.api.client.UpstreamCircuitBreaker.State;
+import com.reliaquest.api.exceptions.UpstreamRateLimitException;
+import com.reliaquest.api.exceptions.UpstreamUnavailableException;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.function.Supplier;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.HttpServerErrorException;
+
+class UpstreamCircuitBreakerTest {
+
+    private final FakeClock clock = new FakeClock();
+    private final UpstreamCircuitBreaker breaker = new UpstreamCircuitBreaker(
+            new UpstreamCircuitBreaker.Settings(true, 50, 4, 10, Duration.ofSeconds(10), 2), clock);
+
+    @Test
+    void execute_shouldOpenOnceFailureRateIsReached() {
+        breaker.execute(() -> "ok");
+        fail(serverError());
+        fail(serverError());
+        assertEquals(State.CLOSED, breaker.state());
+        fail(serverError());
+
+        assertEquals(State.OPEN, breaker.state());
+        UpstreamUnavailableException exception =
+                assertThrows(UpstreamUnavailableException.class, () -> breaker.execute(() -> "ok"));
+        assertEquals(Duration.ofSeconds(10), exception.getRetryAfter());
+    }
+
+    @Test
+    void execute_shouldNotCountClientErrorsOrLocalRateLimiting() {
+        for (int i = 0; i < 10; i++) {
+            fail(() -> {
+                throw HttpClientErrorException.create(HttpStatus.NOT_FOUND, "Not Found", HttpHeaders.EMPTY, null, null);
+            });
+            fail(() -> {
+                throw new UpstreamRateLimitException("budget exhausted", Duration.ofSeconds(1));
+            });
+        }
+
+        assertEquals(State.CLOSED, breaker.state());
+    }
+
+    @Test
+    void execute_shouldCloseAfterSuccessfulProbes() {
+        openCircuit();
+        clock.advance(Duration.ofSeconds(10));
+
+        assertEquals(State.HALF_OPEN, breaker.state());
+        breaker.execute(() -> "ok");
+        breaker.execute(() -> "ok");
+
+        assertEquals(State.CLOSED, breaker.state());
+    }
+
+    @Test
+    void execute_shouldReopenWhenProbeFails() {
+        openCircuit();
+        clock.advance(Duration.ofSeconds(10));
+
+        fail(serverError());
+
+        assertEquals(State.OPEN, breaker.state());
+        assertThrows(UpstreamUnavailableException.class, () -> breaker.execute(() -> "ok"));
+    }
+
+    @Test
+    void execute_shouldLimitConcurrentProbes() {
+        openCircuit();
+        clock.advance(Duration.ofSeconds(10));
+
+        breaker.execute(() -> {
+            breaker.execute(() -> "second probe");
+            return assertThrows(UpstreamUnavailableException.class, () -> breaker.execute(() -> "third probe"));
+        });
+    }
+
+    private void openCircuit() {
+        for (int i = 0; i < 4; i++) {
+            fail(serverError());
+        }
+        assertEquals(State.OPEN, breaker.state());
+    }
+
+    private void fail(Supplier<String> call) {
+        assertThrows(RuntimeException.class, () -> breaker.execute(call));
+    }
+
+    private static Supplier<String> serverError() {
+        return () -> {
+            throw HttpServerErrorException.create(
+                    HttpStatus.SERVICE_UNAVAILABLE, "Service Unavailable", HttpHeaders.EMPTY, null, null);
+        };
+    }
+
+    private static class FakeClock extends Clock {
+
+        private Instant now = Instant.parse("2024-01-01T00:00:00Z");
+
+        void advance(Duration duration) {
+            now = now.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+    }
+}
@@ -0,0 +1,63 @@
+package com.reliaquest.api.client;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.reliaquest.api.exceptions.UpstreamRateLimitException;
+import com.reliaquest.api.exceptions.UpstreamUnavailableException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.io.IOException;
+import java.net.SocketTimeoutException;
+import java.time.Duration;
+import java.util.function.Supplier;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.HttpServerErrorException;
+import org.springframework.web.client.ResourceAccessException;
+import org.springframework.web.client.RestClientException;
+
+class UpstreamMetricsTest {
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private final UpstreamMetrics upstreamMetrics = new UpstreamMetrics(registry);
+
+    @Test
+    void record_shouldTagEachCallWithWhatBecameOfIt() {
+        assertEquals("ok", upstreamMetrics.record("fetch_all", () -> "ok"));
+        recordFailure(HttpClientErrorException.create(
+                HttpStatus.TOO_MANY_REQUESTS, "Too Many", HttpHeaders.EMPTY, null, null));
+        recordFailure(HttpClientErrorException.create(
+                HttpStatus.NOT_FOUND, "Not Found", HttpHeaders.EMPTY, null, null));
+        recordFailure(HttpServerErrorException.create(
+                HttpStatus.BAD_GATEWAY, "Bad Gateway", HttpHeaders.EMPTY, null, null));
+        recordFailure(new ResourceAccessException("I/O error", new SocketTimeoutException("Read timed out")));
+        recordFailure(new RestClientException("Error while extracting response", new IOException("Connection reset")));
+        recordFailure(new UpstreamRateLimitException("Rate limited", Duration.ofSeconds(1)));
+        recordFailure(new UpstreamUnavailableException("Employee API circuit is open", Duration.ofSeconds(1)));
+        recordFailure(new RestClientException("Could not extract response"));
+        recordFailure(new IllegalStateException("Upstream answered a page request with 304"));
+
+        assertEquals(1, count("success"));
+        assertEquals(1, count("throttled"));
+        assertEquals(1, count("client_error"));
+        assertEquals(1, count("server_error"));
+        assertEquals(2, count("io_error"));
+        assertEquals(2, count("rejected"));
+        assertEquals(2, count("error"));
+    }
+
+    private void recordFailure(RuntimeException e) {
+        Supplier<Object> call = () -> {
+            throw e;
+        };
+        assertSame(e, assertThrows(RuntimeException.class, () -> upstreamMetrics.record("fetch_all", call)));
+    }
+
+    private long count(String outcome) {
+        return registry.get("employee.upstream.requests")
+                .tags("operation", "fetch_all", "outcome", outcome)
+                .timer()
+                .count();
+    }
+}
@@ -0,0 +1,146 @@
+package com.reliaquest.api.client;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.reliaquest.api.client.UpstreamRateLimiter.Priority;
+import com.reliaquest.api.exceptions.UpstreamRateLimitException;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.client.HttpClientErrorException;
+
+class UpstreamRateLimiterTest {
+
+    private final FakeClock clock = new FakeClock();
+
+    @Test
+    void execute_shouldLearnServerBudgetAndBackoff() {
+        ThrottlingServer server = new ThrottlingServer(7, Duration.ofSeconds(45));
+        UpstreamRateLimiter limiter = limiter(Duration.ofMinutes(5));
+
+        for (int i = 0; i < 200; i++) {
+            clock.advance(500);
+            limiter.execute(Priority.INTERACTIVE, server::handle);
+        }
+
+        assertEquals(8, limiter.budget());
+        assertTrue(limiter.window().compareTo(Duration.ofSeconds(45)) >= 0);
+        assertTrue(limiter.window().compareTo(Duration.ofSeconds(50)) < 0);
+        assertTrue(server.throttled <= 5, "expected only a handful of 429s but got " + server.throttled);
+    }
+
+    @Test
+    void execute_shouldFailFastWhenBudgetIsNotAvailableWithinMaxWait() {
+        ThrottlingServer server = new ThrottlingServer(5, Duration.ofSeconds(30));
+        UpstreamRateLimiter limiter = limiter(Duration.ofSeconds(2));
+
+        for (int i = 0; i < 5; i++) {
+            limiter.execute(Priority.INTERACTIVE, server::handle);
+        }
+        UpstreamRateLimitException exception = assertThrows(
+                UpstreamRateLimitException.class, () -> limiter.execute(Priority.INTERACTIVE, server::handle));
+
+        assertTrue(exception.getRetryAfter().compareTo(Duration.ofSeconds(29)) > 0);
+        assertEquals(5, server.accepted);
+        assertEquals(0, server.throttled);
+    }
+
+    @Test
+    void execute_shouldKeepReserveForInteractiveCalls() {
+        ThrottlingServer server = new ThrottlingServer(5, Duration.ofSeconds(30));
+        UpstreamRateLimiter limiter = limiter(Duration.ofSeconds(2));
+
+        for (int i = 0; i < 4; i++) {
+            limiter.execute(Priority.BACKGROUND, server::handle);
+        }
+
+        assertThrows(UpstreamRateLimitException.class, () -> limiter.execute(Priority.BACKGROUND, server::handle));
+        assertEquals("ok", limiter.execute(Priority.INTERACTIVE, server::handle));
+    }
+
+    @Test
+    void execute_shouldPassThroughWhenDisabled() {
+        UpstreamRateLimiter limiter = new UpstreamRateLimiter(new UpstreamRateLimiter.Settings(
+                false, 1, Duration.ofSeconds(30), Duration.ofMinutes(2), Duration.ZERO, 0, 0));
+
+        for (int i = 0; i < 10; i++) {
+            assertEquals("ok", limiter.execute(Priority.INTERACTIVE, () -> "ok"));
+        }
+    }
+
+    private UpstreamRateLimiter limiter(Duration maxWait) {
+        return new UpstreamRateLimiter(
+                new UpstreamRateLimiter.Settings(
+                        true, 5, Duration.ofSeconds(30), Duration.ofMinutes(2), maxWait, 1, 2),
+                clock,
+                clock::advance);
+    }
+
+    /**
+     * Mirrors the mock server's RandomRequestLimitInterceptor.
+     */
+    private class ThrottlingServer {
+
+        private final int limit;
+        private final Duration backoff;
+        private int count;
+        private Instant lastRequested = clock.instant();
+        private int accepted;
+        private int throttled;
+
+        ThrottlingServer(int limit, Duration backoff) {
+            this.limit = limit;
+            this.backoff = backoff;
+        }
+
+        String handle() {
+            if (count >= limit) {
+                if (clock.instant().minus(backoff).isBefore(lastRequested)) {
+                    throttled++;
+                    throw HttpClientErrorException.create(
+                            HttpStatus.TOO_MANY_REQUESTS, "Too Many Requests", HttpHeaders.EMPTY, null, null);
+                }
+                count = 0;
+            } else {
+                count++;
+            }
+            lastRequested = clock.instant();
+            accepted++;
+            return "ok";
+        }
+    }
+
+    private static class FakeClock extends Clock {
+
+        private long millis = Instant.parse("2024-01-01T00:00:00Z").toEpochMilli();
+
+        void advance(long delta) {
+            millis += delta;
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public long millis() {
+            return millis;
+        }
+
+        @Override
+        public Instant instant() {
+            return Instant.ofEpochMilli(millis);
+        }
+    }
+}
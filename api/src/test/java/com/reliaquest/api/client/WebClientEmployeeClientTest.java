@@ -0,0 +1,179 @@
+package com.reliaquest.api.client;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.reliaquest.api.model.Employee;
+import com.reliaquest.api.model.EmployeeChange;
+import com.reliaquest.api.model.EmployeeChanges;
+import com.reliaquest.api.model.EmployeePage;
+import com.reliaquest.api.model.VersionedRoster;
+import com.sun.net.httpserver.HttpServer;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicReference;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.reactive.function.client.WebClient;
+
+class WebClientEmployeeClientTest {
+
+    private static final String EMPLOYEE_JSON =
+            "{\"id\":\"1\",\"employee_name\":\"John Doe\",\"employee_salary\":75000,\"employee_age\":30}";
+
+    private static final String SECOND_EMPLOYEE_JSON =
+            "{\"id\":\"2\",\"employee_name\":\"Jane Doe\",\"employee_salary\":85000,\"employee_age\":35}";
+
+    private static final String ROSTER_ETAG = "W/\"1-7\"";
+
+    private final AtomicReference<String> deleteBody = new AtomicReference<>();
+
+    private HttpServer server;
+    private WebClientEmployeeClient client;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+        server.createContext("/api/v1/employee", exchange -> {
+            String path = exchange.getRequestURI().getPath();
+            String method = exchange.getRequestMethod();
+            int status = 200;
+            String body;
+            if (method.equals("DELETE")) {
+                deleteBody.set(new String(exchange.getRequestBody().readAllBytes(), StandardCharsets.UTF_8));
+                body = "{\"data\":true,\"status\":\"ok\"}";
+            } else if (path.endsWith("/changes")) {
+                if ("since=1-7".equals(exchange.getRequestURI().getQuery())) {
+                    body = "{\"data\":{\"version\":\"1-8\",\"changes\":[{\"version\":8,\"type\":\"DELETED\","
+                            + "\"employee\":" + EMPLOYEE_JSON + "}]},\"status\":\"ok\"}";
+                } else {
+                    status = 410;
+                    body = "";
+                }
+            } else if (path.endsWith("/1")) {
+                body = "{\"data\":" + EMPLOYEE_JSON + ",\"status\":\"ok\"}";
+            } else if (path.endsWith("/busy")) {
+                status = 429;
+                body = "";
+            } else if (path.endsWith("/employee") && exchange.getRequestURI().getQuery() != null) {
+                String query = exchange.getRequestURI().getQuery();
+                exchange.getResponseHeaders().set("ETag", ROSTER_ETAG);
+                exchange.getResponseHeaders().set("X-Total-Count", "2");
+                if (ROSTER_ETAG.equals(exchange.getRequestHeaders().getFirst("If-None-Match"))) {
+                    status = 304;
+                    body = "";
+                } else if (query.equals("limit=1")) {
+                    exchange.getResponseHeaders().set("X-Next-Cursor", "1-7:1");
+                    body = "{\"data\":[" + EMPLOYEE_JSON + "],\"status\":\"ok\"}";
+                } else if (query.equals("limit=1&cursor=1-7:1")) {
+                    body = "{\"data\":[" + SECOND_EMPLOYEE_JSON + "],\"status\":\"ok\"}";
+                } else {
+                    status = 410;
+                    body = "";
+                }
+            } else if (path.endsWith("/employee")) {
+                exchange.getResponseHeaders().set("ETag", ROSTER_ETAG);
+                if (ROSTER_ETAG.equals(exchange.getRequestHeaders().getFirst("If-None-Match"))) {
+                    status = 304;
+                    body = "";
+                } else {
+                    body = "{\"data\":[" + EMPLOYEE_JSON + "],\"status\":\"ok\"}";
+                }
+            } else {
+                status = 404;
+                body = "";
+            }
+            byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().set("Content-Type", "application/json");
+            exchange.sendResponseHeaders(status, bytes.length == 0 ? -1 : bytes.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(bytes);
+            }
+        });
+        server.start();
+
+        client = new WebClientEmployeeClient(WebClient.builder()
+                .baseUrl("http://localhost:" + server.getAddress().getPort() + "/api/v1/employee")
+                .build());
+    }
+
+    @AfterEach
+    void tearDown() {
+        server.stop(0);
+    }
+
+    @Test
+    void fetch_shouldUnwrapResponseData() {
+        List<Employee> employees = client.fetchAll();
+        Employee employee = client.fetchById("1");
+
+        assertEquals(1, employees.size());
+        assertEquals("John Doe", employees.get(0).getName());
+        assertEquals(75000, employee.getSalary());
+    }
+
+    @Test
+    void fetchEach_shouldHandOverEachEmployee() {
+        List<String> names = new ArrayList<>();
+
+        client.fetchEach(employee -> names.add(employee.getName()));
+
+        assertEquals(List.of("John Doe"), names);
+    }
+
+    @Test
+    void fetchAllIfNoneMatch_shouldRevalidateWithEtag() {
+        Optional<VersionedRoster> fresh = client.fetchAllIfNoneMatch(null);
+
+        assertTrue(fresh.isPresent());
+        assertEquals(ROSTER_ETAG, fresh.get().etag());
+        assertEquals(1, fresh.get().employees().size());
+        assertTrue(client.fetchAllIfNoneMatch(ROSTER_ETAG).isEmpty());
+        assertTrue(client.fetchAllIfNoneMatch("W/\"1-6\"").isPresent());
+    }
+
+    @Test
+    void fetchPage_shouldFollowCursorsUntilTheLastPage() {
+        EmployeePage first = client.fetchPage(null, 1, null).orElseThrow();
+        EmployeePage second = client.fetchPage(first.nextCursor(), 1, null).orElseThrow();
+
+        assertEquals(ROSTER_ETAG, first.etag());
+        assertEquals("1-7:1", first.nextCursor());
+        assertEquals(2, first.total());
+        assertEquals("1", first.employees().get(0).getId());
+        assertNull(second.nextCursor());
+        assertEquals("2", second.employees().get(0).getId());
+        assertTrue(client.fetchPage(null, 1, ROSTER_ETAG).isEmpty());
+        assertThrows(HttpClientErrorException.Gone.class, () -> client.fetchPage("1-6:1", 1, null));
+    }
+
+    @Test
+    void fetchChangesSince_shouldReturnEmptyOnceChangesAreGone() {
+        Optional<EmployeeChanges> changes = client.fetchChangesSince("1-7");
+
+        assertTrue(changes.isPresent());
+        assertEquals("1-8", changes.get().version());
+        assertEquals(EmployeeChange.Type.DELETED, changes.get().changes().get(0).type());
+        assertEquals("1", changes.get().changes().get(0).employee().getId());
+        assertTrue(client.fetchChangesSince("1-2").isEmpty());
+    }
+
+    @Test
+    void fetchById_shouldSurfaceUpstreamErrorsLikeRestTemplate() {
+        assertThrows(HttpClientErrorException.NotFound.class, () -> client.fetchById("2"));
+        assertThrows(HttpClientErrorException.TooManyRequests.class, () -> client.fetchById("busy"));
+    }
+
+    @Test
+    void deleteByName_shouldSendNameInBody() {
+        assertTrue(client.deleteByName("John Doe"));
+        assertEquals("{\"name\":\"John Doe\"}", deleteBody.get());
+    }
+}
@@ -0,0 +1,190 @@
+package com.reliaquest.api.config;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.reliaquest.api.RosterFixtures;
+import com.sun.net.httpserver.HttpServer;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.GZIPOutputStream;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.http.client.ClientHttpRequestFactory;
+import org.springframework.http.client.SimpleClientHttpRequestFactory;
+import org.springframework.web.client.RestTemplate;
+
+/**
+ * Compares request latency of the pooled HttpClient factory against the JDK {@link SimpleClientHttpRequestFactory}
+ * against a local server that serves a gzip-compressible roster. Both are built by {@link AppConfig}, as the
+ * application builds them, with the shipped timeouts and a pool sized to the concurrency under test. Run with
+ * {@code ./gradlew api:benchmark}.
+ */
+@Tag("benchmark")
+class HttpClientBenchmarkTest {
+
+    private static final Logger logger = LoggerFactory.getLogger(HttpClientBenchmarkTest.class);
+
+    private static final int[] CONCURRENCY_LEVELS = {8, 64, 256};
+    private static final int REQUESTS_PER_CALLER = 40;
+    private static final int ROSTER_SIZE = 500;
+
+    private static HttpServer server;
+    private static ExecutorService serverExecutor;
+    private static String url;
+
+    @BeforeAll
+    static void startServer() throws IOException {
+        byte[] body = RosterFixtures.json(RosterFixtures.employees(ROSTER_SIZE));
+        byte[] gzipped = gzip(body);
+
+        serverExecutor = Executors.newFixedThreadPool(64);
+        server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 1024);
+        server.setExecutor(serverExecutor);
+        server.createContext("/api/v1/employee", exchange -> {
+            String acceptEncoding = exchange.getRequestHeaders().getFirst("Accept-Encoding");
+            boolean gzip = acceptEncoding != null && acceptEncoding.contains("gzip");
+            byte[] payload = gzip ? gzipped : body;
+            exchange.getResponseHeaders().set("Content-Type", "application/json");
+            if (gzip) {
+                exchange.getResponseHeaders().set("Content-Encoding", "gzip");
+            }
+            exchange.sendResponseHeaders(200, payload.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(payload);
+            }
+        });
+        server.start();
+        url = "http://localhost:" + server.getAddress().getPort() + "/api/v1/employee";
+    }
+
+    @AfterAll
+    static void stopServer() {
+        server.stop(0);
+        serverExecutor.shutdownNow();
+    }
+
+    @Test
+    void compareRequestFactories() throws Exception {
+        logger.info(String.format(
+                "%-8s %11s %10s %10s %8s", "factory", "concurrency", "p50 (ms)", "p99 (ms)", "errors"));
+        AppConfig appConfig = new AppConfig();
+        for (int concurrency : CONCURRENCY_LEVELS) {
+            HttpClientSettings settings = settings(appConfig, concurrency);
+            for (boolean pooled : new boolean[] {false, true}) {
+                ClientHttpRequestFactory requestFactory = appConfig.employeeApiRequestFactory(pooled, settings);
+                try {
+                    report(pooled ? "pooled" : "simple", concurrency, run(requestFactory, concurrency));
+                } finally {
+                    if (requestFactory instanceof DisposableBean disposable) {
+                        disposable.destroy();
+                    }
+                }
+            }
+        }
+    }
+
+    /*
+     * The defaults from application.yml, with a pool that admits every caller at once.
+     */
+    private static HttpClientSettings settings(AppConfig appConfig, int concurrency) {
+        return appConfig.employeeApiHttpClientSettings(
+                concurrency,
+                concurrency,
+                Duration.ofSeconds(2),
+                Duration.ofSeconds(10),
+                Duration.ofSeconds(2),
+                Duration.ofSeconds(15));
+    }
+
+    private static Result run(ClientHttpRequestFactory requestFactory, int concurrency) throws Exception {
+        RestTemplate restTemplate = new RestTemplate(requestFactory);
+        for (int i = 0; i < 50; i++) {
+            restTemplate.getForObject(url, String.class);
+        }
+
+        ExecutorService callers = Executors.newFixedThreadPool(concurrency);
+        CountDownLatch start = new CountDownLatch(1);
+        try {
+            List<Future<long[]>> futures = new ArrayList<>();
+            for (int caller = 0; caller < concurrency; caller++) {
+                futures.add(callers.submit(() -> {
+                    start.await();
+                    long[] latencies = new long[REQUESTS_PER_CALLER];
+                    for (int i = 0; i < REQUESTS_PER_CALLER; i++) {
+                        long startedAt = System.nanoTime();
+                        try {
+                            String body = restTemplate.getForObject(url, String.class);
+                            latencies[i] = body != null && body.startsWith("{") ? System.nanoTime() - startedAt : -1;
+                        } catch (RuntimeException e) {
+                            latencies[i] = -1;
+                        }
+                    }
+                    return latencies;
+                }));
+            }
+            start.countDown();
+
+            long[] all = new long[concurrency * REQUESTS_PER_CALLER];
+            int offset = 0;
+            for (Future<long[]> future : futures) {
+                long[] latencies = future.get(5, TimeUnit.MINUTES);
+                System.arraycopy(latencies, 0, all, offset, latencies.length);
+                offset += latencies.length;
+            }
+            return Result.of(all);
+        } finally {
+            callers.shutdownNow();
+        }
+    }
+
+    private static void report(String factory, int concurrency, Result result) {
+        logger.info(String.format(
+                "%-8s %11d %10.2f %10.2f %8d",
+                factory, concurrency, result.p50() / 1e6, result.p99() / 1e6, result.errors()));
+        assertEquals(0, result.errors(), factory + " factory failed requests at concurrency " + concurrency);
+    }
+
+    private static byte[] gzip(byte[] body) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (GZIPOutputStream gzip = new GZIPOutputStream(bytes)) {
+            gzip.write(body);
+        }
+        return bytes.toByteArray();
+    }
+
+    private record Result(long p50, long p99, long errors) {
+
+        static Result of(long[] latencies) {
+            long[] successful = Arrays.stream(latencies).filter(latency -> latency >= 0).sorted().toArray();
+            return new Result(
+                    percentile(successful, 0.50),
+                    percentile(successful, 0.99),
+                    latencies.length - successful.length);
+        }
+
+        private static long percentile(long[] sorted, double percentile) {
+            if (sorted.length == 0) {
+                return 0;
+            }
+            int index = (int) Math.ceil(percentile * sorted.length) - 1;
+            return sorted[Math.max(0, index)];
+        }
+    }
+}
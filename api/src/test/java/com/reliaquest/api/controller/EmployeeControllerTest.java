@@ -8,6 +8,7 @@ import com.reliaquest.api.exceptions.ResourceNotFoundException;
 import com.reliaquest.api.model.ApiException;
 import com.reliaquest.api.model.Employee;
 import com.reliaquest.api.model.EmployeeRequest;
+import com.reliaquest.api.roster.RankBy;
 import com.reliaquest.api.service.EmployeeService;
 import java.util.Arrays;
 import java.util.List;
@@ -111,6 +112,26 @@ class EmployeeControllerTest {
         assertEquals("Jane Doe", response.getBody().get(0));
     }
 
+    @Test
+    void getTopEmployees_shouldRankByRequestedAttribute() {
+        when(employeeService.getTopEmployees(RankBy.AGE, 2)).thenReturn(sampleEmployees);
+
+        ResponseEntity<List<Employee>> response = employeeController.getTopEmployees("Age", 2);
+
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertEquals(sampleEmployees, response.getBody());
+    }
+
+    @Test
+    void getTopEmployees_shouldRejectUnknownAttributesAndBadLimits() {
+        assertThrows(IllegalArgumentException.class, () -> employeeController.getTopEmployees("title", 10));
+        assertThrows(IllegalArgumentException.class, () -> employeeController.getTopEmployees("salary", 0));
+        assertThrows(
+                IllegalArgumentException.class,
+                () -> employeeController.getTopEmployees("salary", EmployeeController.MAX_TOP_LIMIT + 1));
+        verifyNoInteractions(employeeService);
+    }
+
     @Test
     void createEmployee_shouldReturnCreatedEmployee_whenSuccessful() {
         EmployeeRequest newEmployee = new EmployeeRequest();
@@ -0,0 +1,103 @@
+package com.reliaquest.api.controller;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.reliaquest.api.model.Employee;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.lang.reflect.Type;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.MediaType;
+import org.springframework.mock.http.MockHttpOutputMessage;
+
+class StreamingEmployeeListConverterTest {
+
+    private static final Type EMPLOYEES = new ParameterizedTypeReference<List<Employee>>() {}.getType();
+    private static final Type NAMES = new ParameterizedTypeReference<List<String>>() {}.getType();
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Test
+    void write_shouldMatchTheDefaultJacksonOutput() throws IOException {
+        StreamingEmployeeListConverter converter = new StreamingEmployeeListConverter(objectMapper, 2);
+        List<Employee> employees = employees(5);
+        MockHttpOutputMessage message = new MockHttpOutputMessage();
+
+        converter.write(employees, EMPLOYEES, MediaType.APPLICATION_JSON, message);
+
+        assertEquals(objectMapper.writeValueAsString(employees), message.getBodyAsString());
+        assertEquals(MediaType.APPLICATION_JSON, message.getHeaders().getContentType());
+
+        MockHttpOutputMessage empty = new MockHttpOutputMessage();
+        converter.write(List.of(), EMPLOYEES, MediaType.APPLICATION_JSON, empty);
+        assertEquals("[]", empty.getBodyAsString());
+    }
+
+    @Test
+    void write_shouldFlushEveryBatch() throws IOException {
+        StreamingEmployeeListConverter converter = new StreamingEmployeeListConverter(objectMapper, 100);
+        CountingFlushes body = new CountingFlushes();
+        HttpHeaders headers = new HttpHeaders();
+
+        converter.write(employees(1_050), EMPLOYEES, MediaType.APPLICATION_JSON, new HttpOutputMessage() {
+            @Override
+            public OutputStream getBody() {
+                return body;
+            }
+
+            @Override
+            public HttpHeaders getHeaders() {
+                return headers;
+            }
+        });
+
+        // one per full batch of 100, then the converter's flush once the body is written
+        assertEquals(11, body.flushes);
+    }
+
+    @Test
+    void canWrite_shouldOnlyClaimEmployeeLists() {
+        StreamingEmployeeListConverter converter = new StreamingEmployeeListConverter(objectMapper, 100);
+
+        assertTrue(converter.canWrite(EMPLOYEES, List.class, MediaType.APPLICATION_JSON));
+        assertTrue(converter.canWrite(EMPLOYEES, List.class, null));
+        assertFalse(converter.canWrite(EMPLOYEES, List.class, MediaType.APPLICATION_XML));
+        assertFalse(converter.canWrite(NAMES, List.class, MediaType.APPLICATION_JSON));
+        assertFalse(converter.canWrite(Employee.class, Employee.class, MediaType.APPLICATION_JSON));
+        assertFalse(converter.canWrite(List.class, MediaType.APPLICATION_JSON));
+        assertFalse(converter.canRead(EMPLOYEES, null, MediaType.APPLICATION_JSON));
+    }
+
+    private static List<Employee> employees(int count) {
+        return IntStream.range(0, count)
+                .mapToObj(i -> {
+                    Employee employee = new Employee();
+                    employee.setId(UUID.randomUUID().toString());
+                    employee.setName("Employee " + i);
+                    employee.setSalary(i % 7 == 0 ? null : 50_000 + i);
+                    employee.setAge(30);
+                    employee.setTitle("Engineer");
+                    employee.setEmail("employee" + i + "@company.com");
+                    return employee;
+                })
+                .toList();
+    }
+
+    private static final class CountingFlushes extends ByteArrayOutputStream {
+
+        private int flushes;
+
+        @Override
+        public void flush() {
+            flushes++;
+        }
+    }
+}
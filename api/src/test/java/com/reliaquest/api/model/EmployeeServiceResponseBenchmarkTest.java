@@ -0,0 +1,88 @@
+package com.reliaquest.api.model;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.reliaquest.api.RosterFixtures;
+import java.lang.management.ManagementFactory;
+import java.util.List;
+import java.util.function.Supplier;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Measures heap allocated per roster parse for the old two-pass path (bind {@code data} as a map tree, then
+ * {@code convertValue} into employees) against binding {@code EmployeeServiceResponse<List<Employee>>} directly.
+ * Run with {@code ./gradlew api:benchmark}.
+ */
+@Tag("benchmark")
+class EmployeeServiceResponseBenchmarkTest {
+
+    private static final Logger logger = LoggerFactory.getLogger(EmployeeServiceResponseBenchmarkTest.class);
+
+    private static final int WARMUP_ITERATIONS = 20;
+    private static final int MEASURED_ITERATIONS = 10;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @ParameterizedTest
+    @ValueSource(ints = {1_000, 100_000})
+    void typedEnvelopeShouldAllocateLessThanTwoPassConversion(int rosterSize) throws Exception {
+        byte[] body = RosterFixtures.json(RosterFixtures.employees(rosterSize));
+
+        Measurement twoPass = measure(() -> {
+            try {
+                EmployeeServiceResponse<Object> response =
+                        objectMapper.readValue(body, new TypeReference<EmployeeServiceResponse<Object>>() {});
+                return objectMapper.convertValue(response.getData(), new TypeReference<List<Employee>>() {});
+            } catch (Exception e) {
+                throw new IllegalStateException(e);
+            }
+        });
+        Measurement onePass = measure(() -> {
+            try {
+                return objectMapper
+                        .readValue(body, new TypeReference<EmployeeServiceResponse<List<Employee>>>() {})
+                        .getData();
+            } catch (Exception e) {
+                throw new IllegalStateException(e);
+            }
+        });
+
+        logger.info(String.format(
+                "roster=%d two-pass: %.1f MB/op %.2f ms/op | typed: %.1f MB/op %.2f ms/op",
+                rosterSize,
+                twoPass.bytesPerOp() / 1e6,
+                twoPass.nanosPerOp() / 1e6,
+                onePass.bytesPerOp() / 1e6,
+                onePass.nanosPerOp() / 1e6));
+        assertTrue(onePass.bytesPerOp() < twoPass.bytesPerOp());
+    }
+
+    private static Measurement measure(Supplier<List<Employee>> parse) {
+        com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long threadId = Thread.currentThread().getId();
+
+        for (int i = 0; i < WARMUP_ITERATIONS; i++) {
+            parse.get();
+        }
+
+        long allocatedBefore = threads.getThreadAllocatedBytes(threadId);
+        long startedAt = System.nanoTime();
+        int employees = 0;
+        for (int i = 0; i < MEASURED_ITERATIONS; i++) {
+            employees += parse.get().size();
+        }
+        long elapsed = System.nanoTime() - startedAt;
+        long allocated = threads.getThreadAllocatedBytes(threadId) - allocatedBefore;
+
+        assertTrue(employees > 0);
+        return new Measurement(allocated / MEASURED_ITERATIONS, elapsed / MEASURED_ITERATIONS);
+    }
+
+    private record Measurement(long bytesPerOp, long nanosPerOp) {}
+}
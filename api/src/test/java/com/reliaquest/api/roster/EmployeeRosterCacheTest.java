@@ -0,0 +1,245 @@
+package com.reliaquest.api.roster;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.reliaquest.api.exceptions.UpstreamUnavailableException;
+import com.reliaquest.api.model.Employee;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class EmployeeRosterCacheTest {
+
+    private final MutableClock clock = new MutableClock();
+    private final List<Runnable> scheduledRefreshes = new ArrayList<>();
+    private final AtomicInteger upstreamCalls = new AtomicInteger();
+
+    private EmployeeRosterCache cache;
+
+    @BeforeEach
+    void setUp() {
+        cache = new EmployeeRosterCache(Duration.ofSeconds(30), Duration.ofMinutes(5), scheduledRefreshes::add, clock);
+    }
+
+    @Test
+    void get_shouldServeFreshSnapshotFromMemory() {
+        cache.get(loader("John Doe"));
+        clock.advance(Duration.ofSeconds(10));
+        EmployeeRoster roster = cache.get(loader("Jane Doe"));
+
+        assertEquals("John Doe", roster.all().get(0).getName());
+        assertEquals(1, upstreamCalls.get());
+        assertEquals(1, cache.stats().hits());
+        assertEquals(1, cache.stats().misses());
+    }
+
+    @Test
+    void get_shouldServeStaleSnapshotWhileRefreshingOnce() {
+        cache.get(loader("John Doe"));
+        clock.advance(Duration.ofSeconds(45));
+
+        EmployeeRoster stale = cache.get(loader("Jane Doe"));
+        cache.get(loader("Jane Doe"));
+
+        assertEquals("John Doe", stale.all().get(0).getName());
+        assertEquals(1, scheduledRefreshes.size());
+        assertEquals(2, cache.stats().staleHits());
+
+        scheduledRefreshes.get(0).run();
+
+        assertEquals("Jane Doe", cache.get(loader("Alice Smith")).all().get(0).getName());
+        assertEquals(2, upstreamCalls.get());
+    }
+
+    @Test
+    void get_shouldLoadSynchronouslyOnceSnapshotIsTooStale() {
+        cache.get(loader("John Doe"));
+        clock.advance(Duration.ofMinutes(10));
+
+        EmployeeRoster roster = cache.get(loader("Jane Doe"));
+
+        assertEquals("Jane Doe", roster.all().get(0).getName());
+        assertTrue(scheduledRefreshes.isEmpty());
+        assertEquals(2, cache.stats().misses());
+    }
+
+    @Test
+    void get_shouldServeOldSnapshotWhenUpstreamIsUnavailable() {
+        cache.get(loader("John Doe"));
+        clock.advance(Duration.ofMinutes(10));
+
+        EmployeeRoster roster = cache.get(background -> {
+            throw new UpstreamUnavailableException("Employee API circuit is open", Duration.ofSeconds(5));
+        });
+
+        assertEquals("John Doe", roster.all().get(0).getName());
+    }
+
+    @Test
+    void apply_shouldUpdateCachedRoster() {
+        cache.get(loader("John Doe"));
+
+        cache.apply(roster -> roster.put(employee("2", "Jane Doe")));
+        cache.apply(roster -> roster.remove("1"));
+
+        List<Employee> employees = cache.get(loader("Alice Smith")).all();
+        assertEquals(1, employees.size());
+        assertEquals("Jane Doe", employees.get(0).getName());
+        assertEquals(1, upstreamCalls.get());
+    }
+
+    @Test
+    void get_shouldKeepSnapshotWhenUpstreamSaysNotModified() {
+        List<String> sentEtags = new ArrayList<>();
+        EmployeeRosterCache.ConditionalLoader loader = (background, etag) -> {
+            sentEtags.add(etag);
+            return etag == null
+                    ? EmployeeRosterCache.Refresh.full(List.of(employee("1", "John Doe")), "W/\"1\"")
+                    : EmployeeRosterCache.Refresh.notModified(etag);
+        };
+        cache.get(loader);
+        cache.apply(roster -> roster.put(employee("2", "Jane Doe")));
+        clock.advance(Duration.ofMinutes(10));
+
+        EmployeeRoster roster = cache.get(loader);
+        clock.advance(Duration.ofSeconds(10));
+        cache.get(loader);
+
+        assertEquals(Arrays.asList(null, "W/\"1\""), sentEtags);
+        assertEquals(2, roster.size());
+        assertEquals(1, cache.stats().notModified());
+        assertEquals(1, cache.stats().hits());
+    }
+
+    @Test
+    void get_shouldApplyUpstreamChangesToSnapshot() {
+        List<String> sentEtags = new ArrayList<>();
+        EmployeeRosterCache.ConditionalLoader loader = (background, etag) -> {
+            sentEtags.add(etag);
+            if (etag == null) {
+                return EmployeeRosterCache.Refresh.full(
+                        List.of(employee("1", "John Doe"), employee("2", "Jane Doe")), "W/\"1\"");
+            }
+            return EmployeeRosterCache.Refresh.changes(
+                    roster -> {
+                        roster.remove("1");
+                        roster.put(employee("3", "Alice Smith"));
+                    },
+                    "W/\"3\"");
+        };
+        EmployeeRoster cached = cache.get(loader);
+        clock.advance(Duration.ofMinutes(10));
+        cache.get(loader);
+        clock.advance(Duration.ofMinutes(10));
+        EmployeeRoster roster = cache.get(loader);
+
+        assertSame(cached, roster);
+        assertEquals(Arrays.asList(null, "W/\"1\"", "W/\"3\""), sentEtags);
+        assertEquals(List.of("Jane Doe", "Alice Smith"), roster.all().stream().map(Employee::getName).toList());
+        assertEquals(2, cache.stats().incrementalUpdates());
+    }
+
+    @Test
+    void get_shouldKeepNewerRosterWhenRevalidationFinishesAfterAFullLoad() {
+        cache.get((background, etag) ->
+                EmployeeRosterCache.Refresh.full(List.of(employee("1", "John Doe")), "W/\"1\""));
+        clock.advance(Duration.ofSeconds(45));
+        cache.get((background, etag) -> {
+            // a synchronous full load completes while the background revalidation waits for upstream
+            clock.advance(Duration.ofMinutes(10));
+            cache.get(loader("Jane Doe"));
+            cache.apply(roster -> roster.put(employee("2", "Alice Smith")));
+            return EmployeeRosterCache.Refresh.notModified(etag);
+        });
+
+        scheduledRefreshes.get(0).run();
+
+        List<Employee> employees = cache.get(loader("Bob Jones")).all();
+        assertEquals(List.of("Jane Doe", "Alice Smith"), employees.stream().map(Employee::getName).toList());
+        assertEquals(0, cache.stats().notModified());
+    }
+
+    @Test
+    void get_shouldKeepNewerRosterWhenABackgroundLoadFinishesLast() {
+        cache.get(loader("John Doe"));
+        clock.advance(Duration.ofSeconds(45));
+        cache.get(background -> {
+            // a synchronous load completes while the background refresh waits for upstream
+            clock.advance(Duration.ofMinutes(10));
+            cache.get(loader("Jane Doe"));
+            return List.of(employee("1", "Bob Jones"));
+        });
+
+        scheduledRefreshes.get(0).run();
+
+        assertEquals("Jane Doe", cache.get(loader("Alice Smith")).all().get(0).getName());
+    }
+
+    @Test
+    void get_shouldNotCacheRosterLoadedBeforeInvalidation() {
+        EmployeeRoster loaded = cache.get(background -> {
+            cache.invalidate();
+            return List.of(employee("1", "John Doe"));
+        });
+
+        assertEquals("John Doe", loaded.all().get(0).getName());
+        assertTrue(cache.peek().isEmpty());
+    }
+
+    @Test
+    void get_shouldBypassCacheWhenTtlIsZero() {
+        cache = new EmployeeRosterCache(Duration.ZERO, Duration.ZERO, scheduledRefreshes::add, clock);
+
+        cache.get(loader("John Doe"));
+        cache.get(loader("John Doe"));
+
+        assertFalse(cache.isEnabled());
+        assertEquals(2, upstreamCalls.get());
+    }
+
+    private EmployeeRosterCache.Loader loader(String name) {
+        return background -> {
+            upstreamCalls.incrementAndGet();
+            return List.of(employee("1", name));
+        };
+    }
+
+    private static Employee employee(String id, String name) {
+        Employee employee = new Employee();
+        employee.setId(id);
+        employee.setName(name);
+        return employee;
+    }
+
+    private static class MutableClock extends Clock {
+
+        private Instant now = Instant.parse("2024-01-01T00:00:00Z");
+
+        void advance(Duration duration) {
+            now = now.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+    }
+}
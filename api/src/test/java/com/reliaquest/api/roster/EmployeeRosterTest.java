@@ -0,0 +1,187 @@
+package com.reliaquest.api.roster;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.reliaquest.api.model.Employee;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+import java.util.Random;
+import java.util.stream.Collectors;
+import org.junit.jupiter.api.Test;
+
+class EmployeeRosterTest {
+
+    @Test
+    void all_shouldShareOneListUntilTheNextWrite() {
+        EmployeeRoster roster = new EmployeeRoster(List.of(
+                employee("1", "John Doe", 75000), employee("2", "Jane Doe", 120000)));
+
+        List<Employee> first = roster.all();
+        assertSame(first, roster.all());
+        assertThrows(UnsupportedOperationException.class, () -> first.remove(0));
+
+        roster.put(employee("3", "Alice Smith", 150000));
+        List<Employee> afterPut = roster.all();
+        assertEquals(
+                List.of("John Doe", "Jane Doe", "Alice Smith"),
+                afterPut.stream().map(Employee::getName).toList());
+        assertEquals(2, first.size());
+
+        roster.remove("1");
+        assertEquals(List.of("Jane Doe", "Alice Smith"), roster.all().stream().map(Employee::getName).toList());
+        assertEquals(3, afterPut.size());
+    }
+
+    @Test
+    void topEarners_shouldOrderBySalaryThenRosterOrder() {
+        EmployeeRoster roster = new EmployeeRoster(List.of(
+                employee("1", "John Doe", 75000),
+                employee("2", "Jane Doe", 120000),
+                employee("3", "Alice Smith", 75000),
+                employee("4", "Bob Brown", null)));
+
+        assertEquals(
+                List.of("Jane Doe", "John Doe", "Alice Smith"),
+                roster.topEarners(10).stream().map(Employee::getName).collect(Collectors.toList()));
+        assertEquals(Optional.of(120000), roster.highestSalary());
+        assertEquals(Optional.of(3), roster.salaryRank("3"));
+        assertEquals(Optional.empty(), roster.salaryRank("4"));
+    }
+
+    @Test
+    void top_shouldRankByAgeWithTiesInRosterOrder() {
+        EmployeeRoster roster = new EmployeeRoster(List.of(
+                employee("1", "John Doe", 75000, 30),
+                employee("2", "Jane Doe", 120000, 45),
+                employee("3", "Alice Smith", 75000, 30),
+                employee("4", "Bob Brown", null, null)));
+
+        assertEquals(
+                List.of("Jane Doe", "John Doe"),
+                roster.top(RankBy.AGE, 2).stream().map(Employee::getName).toList());
+        assertEquals(
+                List.of("Jane Doe", "John Doe", "Alice Smith"),
+                roster.top(RankBy.AGE, 10).stream().map(Employee::getName).toList());
+        assertEquals(roster.topEarners(10), roster.top(RankBy.SALARY, 10));
+    }
+
+    @Test
+    void salaryIndex_shouldFollowPutsAndRemoves() {
+        EmployeeRoster roster = new EmployeeRoster(List.of(
+                employee("1", "John Doe", 75000), employee("2", "Jane Doe", 120000)));
+
+        roster.put(employee("3", "Alice Smith", 150000));
+        roster.remove("2");
+        roster.put(employee("1", "John Doe", 160000));
+
+        assertEquals(Optional.of(160000), roster.highestSalary());
+        assertEquals(
+                List.of("John Doe", "Alice Smith"),
+                roster.topEarners(10).stream().map(Employee::getName).collect(Collectors.toList()));
+
+        roster.remove("1");
+        roster.remove("3");
+        assertEquals(Optional.empty(), roster.highestSalary());
+        assertTrue(roster.topEarners(10).isEmpty());
+    }
+
+    @Test
+    void topEarners_shouldMatchStableSortOfRoster() {
+        Random random = new Random(42);
+        EmployeeRoster roster = new EmployeeRoster(List.of());
+        for (int i = 0; i < 5_000; i++) {
+            String id = String.valueOf(random.nextInt(1_000));
+            if (random.nextInt(4) == 0) {
+                roster.remove(id);
+            } else {
+                roster.put(employee(id, "Employee " + id, random.nextInt(50) * 1000));
+            }
+        }
+
+        List<Employee> expected = new ArrayList<>(roster.all());
+        expected.sort(Comparator.comparingInt(Employee::getSalary).reversed());
+
+        assertEquals(expected, roster.topEarners(expected.size()));
+        assertEquals(expected.subList(0, 10), roster.topEarners(10));
+        for (int rank = 1; rank <= expected.size(); rank++) {
+            assertEquals(Optional.of(rank), roster.salaryRank(expected.get(rank - 1).getId()));
+        }
+    }
+
+    @Test
+    void searchByName_shouldMatchSubstringsIgnoringCase() {
+        EmployeeRoster roster = new EmployeeRoster(List.of(
+                employee("1", "John Doe", 75000),
+                employee("2", "Jane Doe", 120000),
+                employee("3", "Alice Smith", 95000),
+                employee("4", null, 50000)));
+
+        assertEquals(List.of("John Doe", "Jane Doe"), names(roster.searchByName("DOE")));
+        assertEquals(List.of("John Doe", "Jane Doe", "Alice Smith"), names(roster.searchByName("e")));
+        assertEquals(List.of("Alice Smith"), names(roster.searchByName("ce sm")));
+        assertTrue(roster.searchByName("Doex").isEmpty());
+    }
+
+    @Test
+    void searchByName_shouldFollowPutsAndRemoves() {
+        EmployeeRoster roster = new EmployeeRoster(List.of(employee("1", "John Doe", 75000)));
+
+        roster.put(employee("2", "Jane Doe", 120000));
+        roster.put(employee("1", "John Smith", 75000));
+        roster.remove("2");
+
+        assertTrue(roster.searchByName("Doe").isEmpty());
+        assertEquals(List.of("John Smith"), names(roster.searchByName("smith")));
+    }
+
+    @Test
+    void searchByName_shouldMatchScanOfRoster() {
+        Random random = new Random(7);
+        EmployeeRoster roster = new EmployeeRoster(List.of());
+        for (int i = 0; i < 5_000; i++) {
+            String id = String.valueOf(random.nextInt(1_000));
+            if (random.nextInt(4) == 0) {
+                roster.remove(id);
+            } else {
+                roster.put(employee(id, randomName(random), 1000));
+            }
+        }
+
+        for (int i = 0; i < 500; i++) {
+            String fragment = randomName(random).substring(0, 1 + random.nextInt(4));
+            List<Employee> expected = roster.all().stream()
+                    .filter(employee -> employee.getName().toLowerCase().contains(fragment.toLowerCase()))
+                    .collect(Collectors.toList());
+            assertEquals(expected, roster.searchByName(fragment), fragment);
+        }
+    }
+
+    private static String randomName(Random random) {
+        StringBuilder name = new StringBuilder();
+        int length = 4 + random.nextInt(8);
+        for (int i = 0; i < length; i++) {
+            name.append("abAB c".charAt(random.nextInt(6)));
+        }
+        return name.toString();
+    }
+
+    private static List<String> names(List<Employee> employees) {
+        return employees.stream().map(Employee::getName).collect(Collectors.toList());
+    }
+
+    private static Employee employee(String id, String name, Integer salary, Integer age) {
+        Employee employee = employee(id, name, salary);
+        employee.setAge(age);
+        return employee;
+    }
+
+    private static Employee employee(String id, String name, Integer salary) {
+        Employee employee = new Employee();
+        employee.setId(id);
+        employee.setName(name);
+        employee.setSalary(salary);
+        return employee;
+    }
+}
@@ -0,0 +1,82 @@
+package com.reliaquest.api.roster;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.Test;
+
+class TopKTest {
+
+    private static final Comparator<int[]> BY_VALUE = Comparator.comparingInt(pair -> pair[0]);
+
+    @Test
+    void result_shouldMatchStableSortCutToK() {
+        // [value, position] pairs with plenty of ties
+        Random random = new Random(7);
+        List<int[]> values = IntStream.range(0, 10_000)
+                .mapToObj(i -> new int[] {random.nextInt(100), i})
+                .toList();
+        List<int[]> sorted = values.stream().sorted(BY_VALUE.reversed()).toList();
+
+        for (int k : new int[] {0, 1, 10, 250, 20_000}) {
+            TopK<int[]> top = new TopK<>(k, BY_VALUE);
+            values.forEach(top::offer);
+
+            assertSameOrder(sorted.subList(0, Math.min(k, sorted.size())), top.result(), "k = " + k);
+        }
+    }
+
+    @Test
+    void merge_shouldRankEarlierHalfFirstOnTies() {
+        Random random = new Random(11);
+        List<int[]> values = IntStream.range(0, 5_000)
+                .mapToObj(i -> new int[] {random.nextInt(20), i})
+                .toList();
+        TopK<int[]> first = new TopK<>(100, BY_VALUE);
+        TopK<int[]> second = new TopK<>(100, BY_VALUE);
+        values.subList(0, 1_700).forEach(first::offer);
+        values.subList(1_700, values.size()).forEach(second::offer);
+
+        assertSameOrder(
+                values.stream().sorted(BY_VALUE.reversed()).limit(100).toList(),
+                first.merge(second).result(),
+                "merged");
+        assertSameOrder(
+                values.stream().sorted(BY_VALUE.reversed()).limit(100).toList(),
+                values.parallelStream().collect(TopK.collector(100, BY_VALUE)),
+                "parallel collector");
+    }
+
+    @Test
+    void select_shouldMatchStableSortOfIncludedValuesOnLargeLists() {
+        Random random = new Random(13);
+        List<int[]> values = IntStream.range(0, TopK.PARALLEL_THRESHOLD * 8 + 3)
+                .mapToObj(i -> new int[] {random.nextInt(1_000), i})
+                .toList();
+
+        for (int k : new int[] {1, 10, 1_000}) {
+            assertSameOrder(
+                    values.stream()
+                            .filter(pair -> pair[0] % 3 != 0)
+                            .sorted(BY_VALUE.reversed())
+                            .limit(k)
+                            .toList(),
+                    TopK.select(values, k, BY_VALUE, pair -> pair[0] % 3 != 0),
+                    "k = " + k);
+        }
+        assertSameOrder(
+                values.subList(0, 100).stream().sorted(BY_VALUE.reversed()).limit(5).toList(),
+                TopK.select(values.subList(0, 100), 5, BY_VALUE, pair -> true),
+                "small list");
+    }
+
+    private static void assertSameOrder(List<int[]> expected, List<int[]> actual, String message) {
+        assertEquals(expected.size(), actual.size(), message);
+        for (int i = 0; i < expected.size(); i++) {
+            assertArrayEquals(expected.get(i), actual.get(i), message + " at " + i);
+        }
+    }
+}
@@ -5,58 +5,231 @@ import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.Mockito.*;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.reliaquest.api.client.EmployeeClient;
+import com.reliaquest.api.client.RestTemplateEmployeeClient;
+import com.reliaquest.api.client.RosterPaging;
+import com.reliaquest.api.client.UpstreamBulkhead;
+import com.reliaquest.api.client.UpstreamCircuitBreaker;
+import com.reliaquest.api.client.UpstreamMetrics;
+import com.reliaquest.api.client.UpstreamRateLimiter;
+import com.reliaquest.api.exceptions.ResourceNotFoundException;
 import com.reliaquest.api.model.Employee;
+import com.reliaquest.api.model.EmployeePage;
 import com.reliaquest.api.model.EmployeeRequest;
 import com.reliaquest.api.model.EmployeeServiceResponse;
+import com.reliaquest.api.model.VersionedRoster;
+import com.reliaquest.api.roster.EmployeeNameRegistry;
+import com.reliaquest.api.roster.EmployeeRosterCache;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.io.IOException;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.core.ParameterizedTypeReference;
 import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.mock.http.client.MockClientHttpResponse;
 import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.HttpServerErrorException;
+import org.springframework.web.client.RequestCallback;
+import org.springframework.web.client.ResponseExtractor;
 import org.springframework.web.client.RestTemplate;
 
 @ExtendWith(MockitoExtension.class)
 class EmployeeServiceTest {
 
+    private static final ParameterizedTypeReference<EmployeeServiceResponse<List<Employee>>> EMPLOYEES_RESPONSE =
+            new ParameterizedTypeReference<>() {};
+    private static final ParameterizedTypeReference<EmployeeServiceResponse<Employee>> EMPLOYEE_RESPONSE =
+            new ParameterizedTypeReference<>() {};
+    private static final ParameterizedTypeReference<EmployeeServiceResponse<Boolean>> DELETE_RESPONSE =
+            new ParameterizedTypeReference<>() {};
+
     @Mock
     private RestTemplate restTemplate;
 
     @InjectMocks
     private EmployeeService employeeService;
 
+    private final EmployeeNameRegistry nameRegistry = new EmployeeNameRegistry();
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final List<ExecutorService> executors = new ArrayList<>();
+
     @BeforeEach
     void setUp() {
-        ReflectionTestUtils.setField(employeeService, "employeeApiBaseUrl", "http://localhost:8112/api/v1/employee");
-        ReflectionTestUtils.setField(employeeService, "objectMapper", new ObjectMapper());
+        ReflectionTestUtils.setField(
+                employeeService,
+                "employeeClient",
+                new RestTemplateEmployeeClient(restTemplate, "http://localhost:8112/api/v1/employee"));
+        ReflectionTestUtils.setField(
+                employeeService,
+                "rosterCache",
+                new EmployeeRosterCache(
+                        Duration.ofSeconds(30), Duration.ofMinutes(5), Runnable::run, Clock.systemUTC()));
+        ReflectionTestUtils.setField(
+                employeeService,
+                "rateLimiter",
+                new UpstreamRateLimiter(new UpstreamRateLimiter.Settings(
+                        true, 100, Duration.ofSeconds(30), Duration.ofMinutes(2), Duration.ZERO, 1, 0)));
+        ReflectionTestUtils.setField(
+                employeeService,
+                "circuitBreaker",
+                new UpstreamCircuitBreaker(
+                        new UpstreamCircuitBreaker.Settings(true, 50, 10, 20, Duration.ofSeconds(10), 2)));
+        ReflectionTestUtils.setField(
+                employeeService, "bulkhead", new UpstreamBulkhead(true, 64, 16, 16, Duration.ofMillis(500)));
+        ReflectionTestUtils.setField(employeeService, "upstreamMetrics", new UpstreamMetrics(meterRegistry));
+        ReflectionTestUtils.setField(employeeService, "nameRegistry", nameRegistry);
+        ReflectionTestUtils.setField(employeeService, "rosterPaging", new RosterPaging(false, 1000, 4, Runnable::run));
+    }
+
+    @AfterEach
+    void tearDown() {
+        executors.forEach(ExecutorService::shutdownNow);
     }
 
     @Test
     void getAllEmployees_shouldReturnAllEmployees() {
         List<Employee> employees = createSampleEmployeeList();
-        EmployeeServiceResponse apiResponse = getEmployeeServiceResponse(employees, "Success");
-        when(restTemplate.getForEntity(anyString(), eq(EmployeeServiceResponse.class)))
+        EmployeeServiceResponse<List<Employee>> apiResponse = getEmployeeServiceResponse(employees, "Success");
+        when(restTemplate.exchange(anyString(), eq(HttpMethod.GET), isNull(), eq(EMPLOYEES_RESPONSE)))
                 .thenReturn(ResponseEntity.ok(apiResponse));
 
         List<Employee> result = employeeService.getAllEmployees();
 
         assertEquals(3, result.size());
-        verify(restTemplate).getForEntity("http://localhost:8112/api/v1/employee", EmployeeServiceResponse.class);
+        verify(restTemplate)
+                .exchange("http://localhost:8112/api/v1/employee", HttpMethod.GET, null, EMPLOYEES_RESPONSE);
+    }
+
+    @Test
+    void getAllEmployees_shouldServeRepeatedReadsFromRosterCache() {
+        List<Employee> employees = createSampleEmployeeList();
+        EmployeeServiceResponse<List<Employee>> apiResponse = getEmployeeServiceResponse(employees, "Success");
+        when(restTemplate.exchange(anyString(), eq(HttpMethod.GET), isNull(), eq(EMPLOYEES_RESPONSE)))
+                .thenReturn(ResponseEntity.ok(apiResponse));
+
+        employeeService.getAllEmployees();
+        employeeService.getHighestSalaryOfEmployees();
+        List<String> topEarners = employeeService.getTop10HighestEarningEmployeeNames();
+
+        assertEquals(3, topEarners.size());
+        verify(restTemplate, times(1)).exchange(anyString(), eq(HttpMethod.GET), isNull(), eq(EMPLOYEES_RESPONSE));
+    }
+
+    @Test
+    void getAllEmployees_shouldTimeUpstreamCalls() {
+        EmployeeServiceResponse<List<Employee>> apiResponse =
+                getEmployeeServiceResponse(createSampleEmployeeList(), "Success");
+        when(restTemplate.exchange(anyString(), eq(HttpMethod.GET), isNull(), eq(EMPLOYEES_RESPONSE)))
+                .thenReturn(ResponseEntity.ok(apiResponse));
+
+        employeeService.getAllEmployees();
+
+        assertEquals(
+                1,
+                meterRegistry
+                        .get("employee.upstream.requests")
+                        .tags("operation", "fetch_all", "outcome", "success")
+                        .timer()
+                        .count());
+    }
+
+    @Test
+    void getAllEmployees_shouldFetchLaterPagesInParallelByOffsetInTheFirstPagesVersion() {
+        EmployeeClient employeeClient = pagedClient(2, 3);
+        List<Employee> employees = employees(7);
+        // each later page waits for the other two, so the roster only loads if all three are fetched at once
+        CountDownLatch inFlight = new CountDownLatch(3);
+        when(employeeClient.fetchPage(null, 2, null))
+                .thenReturn(Optional.of(new EmployeePage(employees.subList(0, 2), "W/\"1-12\"", "1-12:2", 7)));
+        when(employeeClient.fetchPage(startsWith("1-12:"), eq(2), isNull())).thenAnswer(invocation -> {
+            inFlight.countDown();
+            assertTrue(inFlight.await(5, TimeUnit.SECONDS));
+            int offset = Integer.parseInt(invocation.<String>getArgument(0).substring("1-12:".length()));
+            String next = offset + 2 < 7 ? "1-12:" + (offset + 2) : null;
+            return Optional.of(
+                    new EmployeePage(employees.subList(offset, Math.min(offset + 2, 7)), "W/\"1-12\"", next, 7));
+        });
+
+        List<Employee> result = employeeService.getAllEmployees();
+
+        assertEquals(employees, result);
+        verify(employeeClient).fetchPage("1-12:2", 2, null);
+        verify(employeeClient).fetchPage("1-12:4", 2, null);
+        verify(employeeClient).fetchPage("1-12:6", 2, null);
+    }
+
+    @Test
+    void getAllEmployees_shouldFollowPageCursorsOneAfterTheOtherWithoutAnETag() {
+        EmployeeClient employeeClient = pagedClient(2, 3);
+        List<Employee> employees = employees(5);
+        when(employeeClient.fetchPage(null, 2, null))
+                .thenReturn(Optional.of(new EmployeePage(employees.subList(0, 2), null, "a", 5)));
+        when(employeeClient.fetchPage("a", 2, null))
+                .thenReturn(Optional.of(new EmployeePage(employees.subList(2, 4), null, "b", 5)));
+        when(employeeClient.fetchPage("b", 2, null))
+                .thenReturn(Optional.of(new EmployeePage(employees.subList(4, 5), null, null, 5)));
+
+        List<Employee> result = employeeService.getAllEmployees();
+
+        assertEquals(employees, result);
+        InOrder pages = inOrder(employeeClient);
+        pages.verify(employeeClient).fetchPage(null, 2, null);
+        pages.verify(employeeClient).fetchPage("a", 2, null);
+        pages.verify(employeeClient).fetchPage("b", 2, null);
+    }
+
+    @Test
+    void getAllEmployees_shouldFetchAllEmployeesWhenThePagedRosterExpires() {
+        EmployeeClient employeeClient = pagedClient(2, 1);
+        List<Employee> employees = employees(5);
+        when(employeeClient.fetchPage(null, 2, null))
+                .thenReturn(Optional.of(new EmployeePage(employees.subList(0, 2), "W/\"1-12\"", "1-12:2", 5)));
+        when(employeeClient.fetchPage("1-12:2", 2, null))
+                .thenThrow(HttpClientErrorException.create(HttpStatus.GONE, "Gone", HttpHeaders.EMPTY, null, null));
+        when(employeeClient.fetchAllIfNoneMatch(null))
+                .thenReturn(Optional.of(new VersionedRoster(employees, "W/\"1-13\"")));
+
+        List<Employee> result = employeeService.getAllEmployees();
+
+        assertEquals(employees, result);
+        verify(employeeClient, never()).fetchPage(eq("1-12:4"), anyInt(), any());
+        assertEquals(
+                1,
+                meterRegistry
+                        .get("employee.upstream.requests")
+                        .tags("operation", "fetch_all", "outcome", "success")
+                        .timer()
+                        .count());
     }
 
     @Test
     void getEmployeesByNameSearch_shouldReturnMatchingEmployees() {
         List<Employee> employees = createSampleEmployeeList();
-        EmployeeServiceResponse apiResponse = getEmployeeServiceResponse(employees, "Success");
+        EmployeeServiceResponse<List<Employee>> apiResponse = getEmployeeServiceResponse(employees, "Success");
 
-        when(restTemplate.getForEntity(anyString(), eq(EmployeeServiceResponse.class)))
+        when(restTemplate.exchange(anyString(), eq(HttpMethod.GET), isNull(), eq(EMPLOYEES_RESPONSE)))
                 .thenReturn(ResponseEntity.ok(apiResponse));
 
         List<Employee> result = employeeService.getEmployeesByNameSearch("Doe");
@@ -71,24 +244,48 @@ class EmployeeServiceTest {
         employee.setId("1");
         employee.setName("John Doe");
 
-        EmployeeServiceResponse apiResponse = getEmployeeServiceResponse(employee, "Success");
+        EmployeeServiceResponse<Employee> apiResponse = getEmployeeServiceResponse(employee, "Success");
 
-        when(restTemplate.getForEntity(anyString(), eq(EmployeeServiceResponse.class)))
+        when(restTemplate.exchange(anyString(), eq(HttpMethod.GET), isNull(), eq(EMPLOYEE_RESPONSE)))
                 .thenReturn(ResponseEntity.ok(apiResponse));
 
         Employee result = employeeService.getEmployeeById("1");
 
         assertEquals("1", result.getId());
         assertEquals("John Doe", result.getName());
-        verify(restTemplate).getForEntity("http://localhost:8112/api/v1/employee/1", EmployeeServiceResponse.class);
+        verify(restTemplate)
+                .exchange("http://localhost:8112/api/v1/employee/1", HttpMethod.GET, null, EMPLOYEE_RESPONSE);
+    }
+
+    @Test
+    void getEmployeeById_shouldServeFromRosterWhileCircuitIsOpen() {
+        ReflectionTestUtils.setField(
+                employeeService,
+                "circuitBreaker",
+                new UpstreamCircuitBreaker(
+                        new UpstreamCircuitBreaker.Settings(true, 50, 1, 1, Duration.ofSeconds(10), 1)));
+        EmployeeServiceResponse<List<Employee>> apiResponse =
+                getEmployeeServiceResponse(createSampleEmployeeList(), "Success");
+        when(restTemplate.exchange(anyString(), eq(HttpMethod.GET), isNull(), eq(EMPLOYEES_RESPONSE)))
+                .thenReturn(ResponseEntity.ok(apiResponse));
+        when(restTemplate.exchange(anyString(), eq(HttpMethod.GET), isNull(), eq(EMPLOYEE_RESPONSE)))
+                .thenThrow(HttpServerErrorException.create(
+                        HttpStatus.SERVICE_UNAVAILABLE, "Service Unavailable", HttpHeaders.EMPTY, null, null));
+
+        employeeService.getAllEmployees();
+        assertThrows(HttpServerErrorException.class, () -> employeeService.getEmployeeById("2"));
+        Employee employee = employeeService.getEmployeeById("2");
+
+        assertEquals("Jane Doe", employee.getName());
+        verify(restTemplate, times(1)).exchange(anyString(), eq(HttpMethod.GET), isNull(), eq(EMPLOYEE_RESPONSE));
     }
 
     @Test
     void getHighestSalaryOfEmployees_shouldReturnHighestSalary() {
         List<Employee> employees = createSampleEmployeeList();
-        EmployeeServiceResponse apiResponse = getEmployeeServiceResponse(employees, "Success");
+        EmployeeServiceResponse<List<Employee>> apiResponse = getEmployeeServiceResponse(employees, "Success");
 
-        when(restTemplate.getForEntity(anyString(), eq(EmployeeServiceResponse.class)))
+        when(restTemplate.exchange(anyString(), eq(HttpMethod.GET), isNull(), eq(EMPLOYEES_RESPONSE)))
                 .thenReturn(ResponseEntity.ok(apiResponse));
 
         Integer result = employeeService.getHighestSalaryOfEmployees();
@@ -100,9 +297,9 @@ class EmployeeServiceTest {
     void getTop10HighestEarningEmployeeNames_shouldReturnTopEarners() {
 
         List<Employee> employees = createSampleEmployeeList();
-        EmployeeServiceResponse apiResponse = getEmployeeServiceResponse(employees, "Success");
+        EmployeeServiceResponse<List<Employee>> apiResponse = getEmployeeServiceResponse(employees, "Success");
 
-        when(restTemplate.getForEntity(anyString(), eq(EmployeeServiceResponse.class)))
+        when(restTemplate.exchange(anyString(), eq(HttpMethod.GET), isNull(), eq(EMPLOYEES_RESPONSE)))
                 .thenReturn(ResponseEntity.ok(apiResponse));
 
         List<String> result = employeeService.getTop10HighestEarningEmployeeNames();
@@ -113,6 +310,33 @@ class EmployeeServiceTest {
         assertEquals("Alice Smith", result.get(2)); // Third highest
     }
 
+    @Test
+    void queries_shouldReduceTheUpstreamRosterAsItIsReadWhenNothingIsCached() throws IOException {
+        ReflectionTestUtils.setField(
+                employeeService,
+                "rosterCache",
+                new EmployeeRosterCache(Duration.ZERO, Duration.ZERO, Runnable::run, Clock.systemUTC()));
+        byte[] body = new ObjectMapper()
+                .writeValueAsBytes(getEmployeeServiceResponse(createSampleEmployeeList(), "Success"));
+        when(restTemplate.execute(
+                        anyString(), eq(HttpMethod.GET), any(RequestCallback.class), any(ResponseExtractor.class)))
+                .thenAnswer(invocation -> invocation
+                        .<ResponseExtractor<?>>getArgument(3)
+                        .extractData(new MockClientHttpResponse(body, HttpStatus.OK)));
+
+        assertEquals(120000, employeeService.getHighestSalaryOfEmployees());
+        assertEquals(
+                List.of("Jane Doe", "John Doe", "Alice Smith"), employeeService.getTop10HighestEarningEmployeeNames());
+        assertEquals(
+                List.of("John Doe", "Jane Doe"),
+                employeeService.getEmployeesByNameSearch("doe").stream()
+                        .map(Employee::getName)
+                        .toList());
+        // nothing of the roster is kept, not even names for deletes
+        assertEquals(0, nameRegistry.size());
+        verify(restTemplate, never()).exchange(anyString(), eq(HttpMethod.GET), isNull(), eq(EMPLOYEES_RESPONSE));
+    }
+
     @Test
     void createEmployee_shouldReturnCreatedEmployee() {
         EmployeeRequest newEmployee = new EmployeeRequest();
@@ -126,9 +350,10 @@ class EmployeeServiceTest {
         createdEmployee.setSalary(90000);
         createdEmployee.setAge(25);
 
-        EmployeeServiceResponse employeeServiceResponse = getEmployeeServiceResponse(createdEmployee, "Status");
+        EmployeeServiceResponse<Employee> employeeServiceResponse =
+                getEmployeeServiceResponse(createdEmployee, "Status");
 
-        when(restTemplate.postForEntity(anyString(), any(EmployeeRequest.class), eq(EmployeeServiceResponse.class)))
+        when(restTemplate.exchange(anyString(), eq(HttpMethod.POST), any(HttpEntity.class), eq(EMPLOYEE_RESPONSE)))
                 .thenReturn(ResponseEntity.ok(employeeServiceResponse));
 
         Employee result = employeeService.createEmployee(newEmployee);
@@ -136,7 +361,11 @@ class EmployeeServiceTest {
         assertEquals("4", result.getId());
         assertEquals("New Employee", result.getName());
         verify(restTemplate)
-                .postForEntity("http://localhost:8112/api/v1/employee", newEmployee, EmployeeServiceResponse.class);
+                .exchange(
+                        "http://localhost:8112/api/v1/employee",
+                        HttpMethod.POST,
+                        new HttpEntity<>(newEmployee),
+                        EMPLOYEE_RESPONSE);
     }
 
     @Test
@@ -145,17 +374,17 @@ class EmployeeServiceTest {
         employee.setId("1");
         employee.setName("John Doe");
 
-        EmployeeServiceResponse response = getEmployeeServiceResponse(employee, "Success");
-        when(restTemplate.getForEntity(anyString(), eq(EmployeeServiceResponse.class)))
+        EmployeeServiceResponse<Employee> response = getEmployeeServiceResponse(employee, "Success");
+        when(restTemplate.exchange(anyString(), eq(HttpMethod.GET), isNull(), eq(EMPLOYEE_RESPONSE)))
                 .thenReturn(ResponseEntity.ok(response));
 
-        EmployeeServiceResponse employeeServiceResponse = getEmployeeServiceResponse(true, "Success");
+        EmployeeServiceResponse<Boolean> employeeServiceResponse = getEmployeeServiceResponse(true, "Success");
 
         when(restTemplate.exchange(
                         anyString(),
                         eq(HttpMethod.DELETE),
                         eq(new HttpEntity<>(Map.entry("name", employee.getName()))),
-                        eq(EmployeeServiceResponse.class)))
+                        eq(DELETE_RESPONSE)))
                 .thenReturn(ResponseEntity.ok(employeeServiceResponse));
 
         String result = employeeService.deleteEmployeeById("1");
@@ -168,7 +397,126 @@ class EmployeeServiceTest {
                         "http://localhost:8112/api/v1/employee",
                         HttpMethod.DELETE,
                         new HttpEntity<>(Map.entry("name", employee.getName())),
-                        EmployeeServiceResponse.class);
+                        DELETE_RESPONSE);
+    }
+
+    @Test
+    void deleteEmployeeById_shouldSkipLookupWhenNameIsKnown() {
+        EmployeeServiceResponse<List<Employee>> apiResponse =
+                getEmployeeServiceResponse(createSampleEmployeeList(), "Success");
+        when(restTemplate.exchange(anyString(), eq(HttpMethod.GET), isNull(), eq(EMPLOYEES_RESPONSE)))
+                .thenReturn(ResponseEntity.ok(apiResponse));
+        when(restTemplate.exchange(
+                        anyString(),
+                        eq(HttpMethod.DELETE),
+                        eq(new HttpEntity<>(Map.entry("name", "Jane Doe"))),
+                        eq(DELETE_RESPONSE)))
+                .thenReturn(ResponseEntity.ok(getEmployeeServiceResponse(true, "Success")));
+
+        employeeService.getAllEmployees();
+        String result = employeeService.deleteEmployeeById("2");
+
+        assertEquals("Jane Doe", result);
+        assertEquals(0, nameRegistry.fallbacks());
+        assertEquals(2, employeeService.getAllEmployees().size());
+        verify(restTemplate, never()).exchange(anyString(), eq(HttpMethod.GET), isNull(), eq(EMPLOYEE_RESPONSE));
+    }
+
+    @Test
+    void deleteEmployeeById_shouldLookUpEmployeeWhenKnownNameIsStale() {
+        Employee renamed = new Employee();
+        renamed.setId("1");
+        renamed.setName("John Smith");
+        Employee stale = new Employee();
+        stale.setId("1");
+        stale.setName("John Doe");
+        nameRegistry.record(stale);
+
+        when(restTemplate.exchange(
+                        anyString(),
+                        eq(HttpMethod.DELETE),
+                        eq(new HttpEntity<>(Map.entry("name", "John Doe"))),
+                        eq(DELETE_RESPONSE)))
+                .thenReturn(ResponseEntity.ok(getEmployeeServiceResponse(false, "Success")));
+        when(restTemplate.exchange(anyString(), eq(HttpMethod.GET), isNull(), eq(EMPLOYEE_RESPONSE)))
+                .thenReturn(ResponseEntity.ok(getEmployeeServiceResponse(renamed, "Success")));
+        when(restTemplate.exchange(
+                        anyString(),
+                        eq(HttpMethod.DELETE),
+                        eq(new HttpEntity<>(Map.entry("name", "John Smith"))),
+                        eq(DELETE_RESPONSE)))
+                .thenReturn(ResponseEntity.ok(getEmployeeServiceResponse(true, "Success")));
+
+        assertEquals("John Smith", employeeService.deleteEmployeeById("1"));
+        assertEquals(1, nameRegistry.fallbacks());
+    }
+
+    @Test
+    void deleteEmployeeById_shouldLookUpEmployeeWhenKnownNameHasNamesakes() {
+        Employee john = new Employee();
+        john.setId("1");
+        john.setName("John Doe");
+        Employee namesake = new Employee();
+        namesake.setId("4");
+        namesake.setName("JOHN DOE");
+        nameRegistry.record(john);
+        nameRegistry.record(namesake);
+
+        when(restTemplate.exchange(anyString(), eq(HttpMethod.GET), isNull(), eq(EMPLOYEE_RESPONSE)))
+                .thenReturn(ResponseEntity.ok(getEmployeeServiceResponse(john, "Success")));
+        when(restTemplate.exchange(
+                        anyString(),
+                        eq(HttpMethod.DELETE),
+                        eq(new HttpEntity<>(Map.entry("name", "John Doe"))),
+                        eq(DELETE_RESPONSE)))
+                .thenReturn(ResponseEntity.ok(getEmployeeServiceResponse(true, "Success")));
+
+        assertEquals("John Doe", employeeService.deleteEmployeeById("1"));
+        assertEquals(1, nameRegistry.fallbacks());
+        verify(restTemplate)
+                .exchange("http://localhost:8112/api/v1/employee/1", HttpMethod.GET, null, EMPLOYEE_RESPONSE);
+    }
+
+    @Test
+    void deleteEmployeeById_shouldNotFindEmployeeThatAFullFetchNoLongerHas() {
+        Employee departed = new Employee();
+        departed.setId("9");
+        departed.setName("Bob Jones");
+        nameRegistry.record(departed);
+        when(restTemplate.exchange(anyString(), eq(HttpMethod.GET), isNull(), eq(EMPLOYEES_RESPONSE)))
+                .thenReturn(ResponseEntity.ok(getEmployeeServiceResponse(createSampleEmployeeList(), "Success")));
+        when(restTemplate.exchange(anyString(), eq(HttpMethod.GET), isNull(), eq(EMPLOYEE_RESPONSE)))
+                .thenReturn(ResponseEntity.ok(getEmployeeServiceResponse(null, "Success")));
+
+        employeeService.getAllEmployees();
+
+        assertEquals(Optional.empty(), nameRegistry.nameOf("9"));
+        assertEquals(3, nameRegistry.size());
+        assertThrows(ResourceNotFoundException.class, () -> employeeService.deleteEmployeeById("9"));
+        verify(restTemplate, never())
+                .exchange(anyString(), eq(HttpMethod.DELETE), any(HttpEntity.class), eq(DELETE_RESPONSE));
+    }
+
+    private EmployeeClient pagedClient(int pageSize, int parallelism) {
+        EmployeeClient employeeClient = mock(EmployeeClient.class);
+        ExecutorService executor = Executors.newFixedThreadPool(parallelism);
+        executors.add(executor);
+        ReflectionTestUtils.setField(employeeService, "employeeClient", employeeClient);
+        ReflectionTestUtils.setField(
+                employeeService, "rosterPaging", new RosterPaging(true, pageSize, parallelism, executor));
+        return employeeClient;
+    }
+
+    private static List<Employee> employees(int count) {
+        List<Employee> employees = new ArrayList<>(count);
+        for (int i = 1; i <= count; i++) {
+            Employee employee = new Employee();
+            employee.setId(String.valueOf(i));
+            employee.setName("Employee " + i);
+            employee.setSalary(50000 + i);
+            employees.add(employee);
+        }
+        return employees;
     }
 
     private List<Employee> createSampleEmployeeList() {
@@ -193,8 +541,8 @@ class EmployeeServiceTest {
         return Arrays.asList(employee1, employee2, employee3);
     }
 
-    public EmployeeServiceResponse getEmployeeServiceResponse(Object data, String status) {
-        EmployeeServiceResponse employeeServiceResponse = new EmployeeServiceResponse();
+    public <T> EmployeeServiceResponse<T> getEmployeeServiceResponse(T data, String status) {
+        EmployeeServiceResponse<T> employeeServiceResponse = new EmployeeServiceResponse<>();
         employeeServiceResponse.setData(data);
         employeeServiceResponse.setStatus(status);
         return employeeServiceResponse;
@@ -0,0 +1,73 @@
+package com.reliaquest.api;
+
+import com.reliaquest.api.model.Employee;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.UUID;
+
+/**
+ * Deterministic synthetic rosters shaped like the mock server's data, shared by the api tests and the JMH benchmarks.
+ */
+public final class RosterFixtures {
+
+    private static final String[] FIRST_NAMES = {
+        "John", "Jane", "Alice", "Bob", "Carol", "Dave", "Erin", "Frank", "Grace", "Heidi", "Ivan", "Judy"
+    };
+    private static final String[] LAST_NAMES = {
+        "Doe", "Smith", "Nixon", "Jenkins", "Brown", "Taylor", "Walker", "Young", "King", "Wright", "Lopez", "Hill"
+    };
+
+    private RosterFixtures() {}
+
+    public static List<Employee> employees(int size) {
+        Random random = new Random(size);
+        List<Employee> employees = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            Employee employee = new Employee();
+            employee.setId(new UUID(random.nextLong(), random.nextLong()).toString());
+            employee.setName(name(random, i));
+            employee.setSalary(30_000 + random.nextInt(470_000));
+            employee.setAge(16 + random.nextInt(54));
+            employee.setTitle("Engineer");
+            employee.setEmail("employee" + i + "@company.com");
+            employees.add(employee);
+        }
+        return employees;
+    }
+
+    public static String name(Random random, int i) {
+        return FIRST_NAMES[random.nextInt(FIRST_NAMES.length)] + " " + LAST_NAMES[random.nextInt(LAST_NAMES.length)]
+                + " " + i;
+    }
+
+    /**
+     * Serializes {@code employees} as the employee API's list response.
+     */
+    public static byte[] json(List<Employee> employees) {
+        StringBuilder json = new StringBuilder(employees.size() * 200).append("{\"data\":[");
+        for (int i = 0; i < employees.size(); i++) {
+            Employee employee = employees.get(i);
+            if (i > 0) {
+                json.append(',');
+            }
+            json.append("{\"id\":\"")
+                    .append(employee.getId())
+                    .append("\",\"employee_name\":\"")
+                    .append(employee.getName())
+                    .append("\",\"employee_salary\":")
+                    .append(employee.getSalary())
+                    .append(",\"employee_age\":")
+                    .append(employee.getAge())
+                    .append(",\"employee_title\":\"")
+                    .append(employee.getTitle())
+                    .append("\",\"employee_email\":\"")
+                    .append(employee.getEmail())
+                    .append("\"}");
+        }
+        return json.append("],\"status\":\"Successfully processed request.\"}")
+                .toString()
+                .getBytes(StandardCharsets.UTF_8);
+    }
+}
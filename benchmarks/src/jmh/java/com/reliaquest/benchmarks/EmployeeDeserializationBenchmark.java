@@ -0,0 +1,46 @@
+package com.reliaquest.benchmarks;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.reliaquest.api.RosterFixtures;
+import com.reliaquest.api.model.Employee;
+import com.reliaquest.api.model.EmployeeServiceResponse;
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Binding an upstream roster response into {@code List<Employee>}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class EmployeeDeserializationBenchmark {
+
+    private static final TypeReference<EmployeeServiceResponse<List<Employee>>> EMPLOYEES_RESPONSE =
+            new TypeReference<>() {};
+
+    @Param({"50", "1000", "100000", "1000000"})
+    public int rosterSize;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private byte[] body;
+
+    @Setup
+    public void setUp() {
+        body = RosterFixtures.json(RosterFixtures.employees(rosterSize));
+    }
+
+    @Benchmark
+    public List<Employee> typedEnvelope() throws IOException {
+        return objectMapper.readValue(body, EMPLOYEES_RESPONSE).getData();
+    }
+}
@@ -0,0 +1,133 @@
+package com.reliaquest.benchmarks;
+
+import com.reliaquest.api.RosterFixtures;
+import com.reliaquest.api.client.EmployeeClient;
+import com.reliaquest.api.client.RosterPaging;
+import com.reliaquest.api.client.UpstreamBulkhead;
+import com.reliaquest.api.client.UpstreamCircuitBreaker;
+import com.reliaquest.api.client.UpstreamMetrics;
+import com.reliaquest.api.client.UpstreamRateLimiter;
+import com.reliaquest.api.model.Employee;
+import com.reliaquest.api.model.EmployeeRequest;
+import com.reliaquest.api.roster.EmployeeNameRegistry;
+import com.reliaquest.api.roster.EmployeeRosterCache;
+import com.reliaquest.api.service.EmployeeService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Roster reads through {@link EmployeeService} with a warm roster cache, next to the full-scan stream pipelines the
+ * service used before it kept indexes ({@code scan*}).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class EmployeeServiceBenchmark {
+
+    @Param({"50", "1000", "100000", "1000000"})
+    public int rosterSize;
+
+    @Param({"ohn", "Smith 4"})
+    public String nameFragment;
+
+    private List<Employee> employees;
+    private EmployeeService employeeService;
+
+    @Setup
+    public void setUp() {
+        employees = RosterFixtures.employees(rosterSize);
+        employeeService = new EmployeeService(
+                new FixedEmployeeClient(employees),
+                new EmployeeRosterCache(Duration.ofDays(1), Duration.ZERO, Runnable::run, Clock.systemUTC()),
+                new UpstreamRateLimiter(new UpstreamRateLimiter.Settings(
+                        false, 1, Duration.ofSeconds(30), Duration.ofMinutes(2), Duration.ZERO, 0, 0)),
+                new UpstreamCircuitBreaker(
+                        new UpstreamCircuitBreaker.Settings(false, 50, 10, 20, Duration.ofSeconds(10), 2)),
+                new UpstreamBulkhead(false, 1, 1, 1, Duration.ZERO),
+                new UpstreamMetrics(new SimpleMeterRegistry()),
+                new EmployeeNameRegistry(),
+                new RosterPaging(false, 1000, 1, Runnable::run));
+        employeeService.getAllEmployees();
+    }
+
+    @Benchmark
+    public List<Employee> nameSearch() {
+        return employeeService.getEmployeesByNameSearch(nameFragment);
+    }
+
+    @Benchmark
+    public Integer highestSalary() {
+        return employeeService.getHighestSalaryOfEmployees();
+    }
+
+    @Benchmark
+    public List<String> top10() {
+        return employeeService.getTop10HighestEarningEmployeeNames();
+    }
+
+    @Benchmark
+    public List<Employee> scanNameSearch() {
+        return employees.stream()
+                .filter(employee -> employee.getName() != null
+                        && employee.getName().toLowerCase().contains(nameFragment.toLowerCase()))
+                .collect(Collectors.toList());
+    }
+
+    @Benchmark
+    public int scanHighestSalary() {
+        return employees.stream().mapToInt(Employee::getSalary).max().orElse(0);
+    }
+
+    @Benchmark
+    public List<String> scanTop10() {
+        return employees.stream()
+                .sorted(Comparator.comparingInt(Employee::getSalary).reversed())
+                .limit(10)
+                .map(Employee::getName)
+                .collect(Collectors.toList());
+    }
+
+    private record FixedEmployeeClient(List<Employee> employees) implements EmployeeClient {
+
+        @Override
+        public List<Employee> fetchAll() {
+            return employees;
+        }
+
+        @Override
+        public Employee fetchById(String id) {
+            return employees.stream()
+                    .filter(employee -> employee.getId().equals(id))
+                    .findFirst()
+                    .orElse(null);
+        }
+
+        @Override
+        public Employee create(EmployeeRequest request) {
+            Employee employee = new Employee();
+            employee.setId(String.valueOf(new Random().nextLong()));
+            employee.setName(request.getName());
+            employee.setSalary(request.getSalary());
+            return employee;
+        }
+
+        @Override
+        public boolean deleteByName(String name) {
+            return true;
+        }
+    }
+}
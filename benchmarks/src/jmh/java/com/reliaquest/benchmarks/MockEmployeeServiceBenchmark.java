@@ -0,0 +1,124 @@
+package com.reliaquest.benchmarks;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.reliaquest.api.RosterFixtures;
+import com.reliaquest.server.model.CreateMockEmployeeInput;
+import com.reliaquest.server.model.DeleteMockEmployeeInput;
+import com.reliaquest.server.model.MockEmployee;
+import com.reliaquest.server.model.Response;
+import com.reliaquest.server.service.MockEmployeeService;
+import com.reliaquest.server.web.RosterResponseCache;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.Random;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import net.datafaker.Faker;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Lookups, deletes and full roster reads against the mock server's employee store.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class MockEmployeeServiceBenchmark {
+
+    @Param({"50", "1000", "100000", "1000000"})
+    public int rosterSize;
+
+    private final Random random = new Random(42);
+    private List<MockEmployee> employees;
+    private MockEmployeeService mockEmployeeService;
+    private MockEmployeeService mutatedEmployeeService;
+    private ObjectMapper objectMapper;
+    private RosterResponseCache rosterResponseCache;
+
+    @Setup
+    public void setUp() {
+        Random fixtures = new Random(rosterSize);
+        employees = new ArrayList<>(rosterSize);
+        for (int i = 0; i < rosterSize; i++) {
+            employees.add(MockEmployee.builder()
+                    .id(new UUID(fixtures.nextLong(), fixtures.nextLong()))
+                    .name(RosterFixtures.name(fixtures, i))
+                    .salary(30_000 + fixtures.nextInt(470_000))
+                    .age(16 + fixtures.nextInt(54))
+                    .title("Engineer")
+                    .email("employee" + i + "@company.com")
+                    .build());
+        }
+        mockEmployeeService = new MockEmployeeService(new Faker(), employees);
+        mutatedEmployeeService = new MockEmployeeService(new Faker(), employees);
+        objectMapper = new ObjectMapper();
+        rosterResponseCache = new RosterResponseCache(mockEmployeeService, objectMapper, true);
+    }
+
+    @Benchmark
+    public Optional<MockEmployee> findById() {
+        return mockEmployeeService.findById(randomEmployee().getId());
+    }
+
+    /**
+     * Deletes a random employee by name. The employee is created again between invocations, outside the measurement.
+     */
+    @Benchmark
+    public boolean delete(Deletion deletion) {
+        DeleteMockEmployeeInput delete = new DeleteMockEmployeeInput();
+        delete.setName(deletion.employee.getName());
+        return mutatedEmployeeService.delete(delete);
+    }
+
+    /**
+     * A full roster read without the response cache: a snapshot and a Jackson pass over every employee.
+     */
+    @Benchmark
+    public byte[] serializeRoster() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(Response.handledWith(mockEmployeeService.getMockEmployees()));
+    }
+
+    /**
+     * A full roster read with the response cache, when nothing was written since the previous read.
+     */
+    @Benchmark
+    public byte[] cachedRoster() {
+        return rosterResponseCache.get().gzippedBody();
+    }
+
+    private MockEmployee randomEmployee() {
+        return employees.get(random.nextInt(employees.size()));
+    }
+
+    /**
+     * The employee the next {@link #delete(Deletion)} removes. The previous one is put back first, so the store keeps
+     * its size and every name stays deletable; creating it (and faking its e-mail) is not part of the delete.
+     */
+    @State(Scope.Thread)
+    public static class Deletion {
+
+        private MockEmployee employee;
+
+        @Setup(Level.Invocation)
+        public void next(MockEmployeeServiceBenchmark benchmark) {
+            if (employee != null) {
+                CreateMockEmployeeInput create = new CreateMockEmployeeInput();
+                create.setName(employee.getName());
+                create.setSalary(employee.getSalary());
+                create.setAge(employee.getAge());
+                create.setTitle(employee.getTitle());
+                benchmark.mutatedEmployeeService.create(create);
+            }
+            employee = benchmark.randomEmployee();
+        }
+    }
+}
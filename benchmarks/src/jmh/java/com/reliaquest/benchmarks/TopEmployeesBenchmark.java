@@ -0,0 +1,79 @@
+package com.reliaquest.benchmarks;
+
+import com.reliaquest.api.RosterFixtures;
+import com.reliaquest.api.model.Employee;
+import com.reliaquest.api.roster.EmployeeRoster;
+import com.reliaquest.api.roster.RankBy;
+import com.reliaquest.api.roster.TopK;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Top-N employees by age, an attribute without an index. Compares a full stable sort cut to N ({@code fullSort}) with
+ * a bounded heap on one thread ({@code heap}) and {@link TopK#select}, which uses fork-join from 32k employees
+ * ({@code select}). {@code roster} is the endpoint's path through {@link EmployeeRoster}, and {@code salaryIndex} is
+ * the salary ranking read from the roster's index.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class TopEmployeesBenchmark {
+
+    @Param({"1000", "100000", "1000000"})
+    public int rosterSize;
+
+    @Param({"10", "1000"})
+    public int n;
+
+    private List<Employee> employees;
+    private EmployeeRoster roster;
+
+    @Setup
+    public void setUp() {
+        employees = RosterFixtures.employees(rosterSize);
+        roster = new EmployeeRoster(employees);
+    }
+
+    @Benchmark
+    public List<Employee> fullSort() {
+        return employees.stream()
+                .filter(RankBy.AGE::isRanked)
+                .sorted(RankBy.AGE.order().reversed())
+                .limit(n)
+                .toList();
+    }
+
+    @Benchmark
+    public List<Employee> heap() {
+        TopK<Employee> top = new TopK<>(n, RankBy.AGE.order());
+        for (Employee employee : employees) {
+            if (RankBy.AGE.isRanked(employee)) {
+                top.offer(employee);
+            }
+        }
+        return top.result();
+    }
+
+    @Benchmark
+    public List<Employee> select() {
+        return TopK.select(employees, n, RankBy.AGE.order(), RankBy.AGE::isRanked);
+    }
+
+    @Benchmark
+    public List<Employee> roster() {
+        return roster.top(RankBy.AGE, n);
+    }
+
+    @Benchmark
+    public List<Employee> salaryIndex() {
+        return roster.top(RankBy.SALARY, n);
+    }
+}
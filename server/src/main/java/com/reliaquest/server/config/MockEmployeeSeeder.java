@@ -0,0 +1,68 @@
+package com.reliaquest.server.config;
+
+import com.reliaquest.server.model.MockEmployee;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.Random;
+import java.util.UUID;
+import java.util.stream.IntStream;
+import net.datafaker.Faker;
+
+/**
+ * Generates mock employees in parallel. Each thread keeps its own {@link Faker}, so generation never contends on a
+ * shared one, and the roster is split into fixed chunks whose generator is reseeded from {@code seed} and the chunk
+ * index, so the same seed gives the same roster however the chunks are scheduled.
+ */
+public class MockEmployeeSeeder {
+
+    private static final int CHUNK_SIZE = 4_096;
+
+    private final long seed;
+    private final ThreadLocal<Generator> generators;
+
+    public MockEmployeeSeeder(Locale locale, long seed) {
+        this.seed = seed;
+        this.generators = ThreadLocal.withInitial(() -> {
+            final var random = new Random();
+            return new Generator(random, new Faker(locale, random));
+        });
+    }
+
+    public List<MockEmployee> generate(int count) {
+        final var employees = new MockEmployee[count];
+        IntStream.range(0, (count + CHUNK_SIZE - 1) / CHUNK_SIZE).parallel().forEach(chunk -> {
+            final var generator = generators.get();
+            generator.random().setSeed(seed + chunk);
+            final int end = Math.min(count, (chunk + 1) * CHUNK_SIZE);
+            for (int i = chunk * CHUNK_SIZE; i < end; i++) {
+                employees[i] = generator.next();
+            }
+        });
+        return Arrays.asList(employees);
+    }
+
+    private record Generator(Random random, Faker faker) {
+
+        private MockEmployee next() {
+            return MockEmployee.builder()
+                    .id(randomUuid())
+                    .name(faker.name().fullName())
+                    .salary(faker.number().numberBetween(30000, 500000))
+                    .age(faker.number().numberBetween(16, 70))
+                    .title(faker.job().title())
+                    .email(ServerConfiguration.EMAIL_TEMPLATE.formatted(
+                            faker.twitter().userName().toLowerCase()))
+                    .build();
+        }
+
+        /*
+         * A version 4 UUID drawn from the seeded generator, unlike UUID.randomUUID().
+         */
+        private UUID randomUuid() {
+            final long mostSignificantBits = random.nextLong() & ~0xf000L | 0x4000L;
+            final long leastSignificantBits = random.nextLong() & ~(0xcL << 60) | (0x8L << 60);
+            return new UUID(mostSignificantBits, leastSignificantBits);
+        }
+    }
+}
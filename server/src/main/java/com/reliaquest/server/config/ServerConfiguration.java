@@ -1,59 +1,107 @@
 package com.reliaquest.server.config;
 
 import com.reliaquest.server.model.MockEmployee;
+import com.reliaquest.server.service.MockEmployeeJournal;
 import com.reliaquest.server.web.RandomRequestLimitInterceptor;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.security.SecureRandom;
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Locale;
-import java.util.UUID;
-import java.util.stream.Collectors;
-import java.util.stream.IntStream;
+import java.util.concurrent.TimeUnit;
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import net.datafaker.Faker;
-import net.datafaker.transformations.Field;
-import net.datafaker.transformations.JavaObjectTransformer;
-import net.datafaker.transformations.Schema;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.util.unit.DataSize;
 import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
 import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
 
 @Slf4j
 @Configuration
+@RequiredArgsConstructor
 public class ServerConfiguration implements WebMvcConfigurer {
 
     public static final String EMAIL_TEMPLATE = "%s@company.com";
 
+    private final ObjectProvider<RandomRequestLimitInterceptor> requestLimitInterceptor;
+
     @Bean
     public Faker faker() {
         return new Faker(Locale.getDefault());
     }
 
     /*
-     * This list is modifiable by design for CRUD operations.
+     * The initial roster; MockEmployeeService copies it into its indexed store. Empty when the journal has a roster
+     * to recover instead. The seed is logged, so a run's roster can be generated again with mock.employees.seed.
+     */
+    @Bean
+    public List<MockEmployee> mockEmployees(
+            @Value("${mock.employees.max:20}") int maxEmployees,
+            @Value("${mock.employees.seed:#{null}}") Long configuredSeed,
+            ObjectProvider<MockEmployeeJournal> mockEmployeeJournal)
+            throws IOException {
+        final var journal = mockEmployeeJournal.getIfAvailable();
+        if (journal != null && journal.hasState()) {
+            log.info("Not seeding employees, recovering them from {}", journal.getDirectory());
+            return new ArrayList<>();
+        }
+
+        final long seed = configuredSeed != null ? configuredSeed : new SecureRandom().nextLong();
+        final long startedAt = System.nanoTime();
+        final var mockEmployees = new MockEmployeeSeeder(Locale.getDefault(), seed).generate(maxEmployees);
+        final long elapsedNanos = Math.max(System.nanoTime() - startedAt, 1);
+        log.info(
+                "Seeded {} employees in {} ms ({} per second) with mock.employees.seed={}",
+                mockEmployees.size(),
+                TimeUnit.NANOSECONDS.toMillis(elapsedNanos),
+                Math.round(mockEmployees.size() * 1e9 / elapsedNanos),
+                seed);
+        // one line per employee is only readable, and affordable, for small rosters
+        if (mockEmployees.size() <= 1_000) {
+            mockEmployees.forEach(mockEmployee -> log.debug("Created employee: {}", mockEmployee));
+        }
+        return mockEmployees;
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "mock.persistence.enabled", havingValue = "true")
+    public MockEmployeeJournal mockEmployeeJournal(
+            @Value("${mock.persistence.directory:data}") Path directory,
+            @Value("${mock.persistence.segment-size:64MB}") DataSize segmentSize,
+            @Value("${mock.persistence.compact-every:100000}") int compactEvery)
+            throws IOException {
+        return new MockEmployeeJournal(directory, Math.toIntExact(segmentSize.toBytes()), compactEvery);
+    }
+
+    /*
+     * Load tests turn this off, or pin the limit and backoff by setting equal bounds.
      */
     @Bean
-    public List<MockEmployee> mockEmployees(Faker faker, @Value("${mock.employees.max:20}") int maxEmployees) {
-        final var transformer = new JavaObjectTransformer();
-        final var schema = Schema.of(
-                Field.field("id", UUID::randomUUID),
-                Field.field("name", () -> faker.name().fullName()),
-                Field.field("salary", () -> faker.number().numberBetween(30000, 500000)),
-                Field.field("age", () -> faker.number().numberBetween(16, 70)),
-                Field.field("title", () -> faker.job().title()),
-                Field.field(
-                        "email",
-                        () -> EMAIL_TEMPLATE.formatted(
-                                faker.twitter().userName().toLowerCase())));
-        return IntStream.rangeClosed(1, maxEmployees)
-                .mapToObj(ignored -> (MockEmployee) transformer.apply(MockEmployee.class, schema))
-                .peek(mockEmployee -> log.debug("Created employee: {}", mockEmployee))
-                .collect(Collectors.toCollection(ArrayList::new));
+    @ConditionalOnProperty(name = "mock.rate-limit.enabled", havingValue = "true", matchIfMissing = true)
+    public RandomRequestLimitInterceptor randomRequestLimitInterceptor(
+            @Value("${mock.rate-limit.min-requests:5}") int minRequests,
+            @Value("${mock.rate-limit.max-requests:10}") int maxRequests,
+            @Value("${mock.rate-limit.min-backoff:30s}") Duration minBackoff,
+            @Value("${mock.rate-limit.max-backoff:90s}") Duration maxBackoff) {
+        final var interceptor = new RandomRequestLimitInterceptor(minRequests, maxRequests, minBackoff, maxBackoff);
+        log.info(
+                "Rate limiting to {} requests, then backing off for {}",
+                interceptor.getLimit(),
+                interceptor.getBackoff());
+        return interceptor;
     }
 
     @Override
     public void addInterceptors(InterceptorRegistry registry) {
-        registry.addInterceptor(new RandomRequestLimitInterceptor());
+        // never rate limit metric scrapes
+        requestLimitInterceptor.ifAvailable(interceptor ->
+                registry.addInterceptor(interceptor).excludePathPatterns("/actuator/**"));
     }
 }
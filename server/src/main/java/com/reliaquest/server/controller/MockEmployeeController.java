@@ -3,20 +3,25 @@ package com.reliaquest.server.controller;
 import com.reliaquest.server.model.CreateMockEmployeeInput;
 import com.reliaquest.server.model.DeleteMockEmployeeInput;
 import com.reliaquest.server.model.MockEmployee;
+import com.reliaquest.server.model.MockEmployeeChanges;
 import com.reliaquest.server.model.Response;
 import com.reliaquest.server.service.MockEmployeeService;
+import com.reliaquest.server.web.RosterResponseCache;
 import jakarta.validation.Valid;
-import java.util.List;
 import java.util.UUID;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 @RestController
@@ -26,9 +31,117 @@ public class MockEmployeeController {
 
     private final MockEmployeeService mockEmployeeService;
 
+    private final RosterResponseCache rosterResponseCache;
+
+    public static final String NEXT_CURSOR_HEADER = "X-Next-Cursor";
+    public static final String TOTAL_COUNT_HEADER = "X-Total-Count";
+
+    /*
+     * The weak ETag changes with every write, so a client revalidating with If-None-Match gets an empty 304 until
+     * something changes. The current version is compared before the roster (or its first page) is read at all. Weak
+     * because compression changes the bytes, not the roster.
+     *
+     * The whole roster is written from the serialized body cached for its version, gzipped here rather than by the
+     * container when the client accepts it.
+     *
+     * With a limit, the roster is served a page at a time: X-Next-Cursor names the next page and is absent on the last
+     * one, and a cursor that is no longer valid is 410 Gone.
+     */
     @GetMapping()
-    public Response<List<MockEmployee>> getEmployees() {
-        return Response.handledWith(mockEmployeeService.getMockEmployees());
+    public ResponseEntity<?> getEmployees(
+            @RequestParam(name = "limit", required = false) Integer limit,
+            @RequestParam(name = "cursor", required = false) String cursor,
+            @RequestHeader(name = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding,
+            @RequestHeader(name = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        if (cursor == null && ifNoneMatch != null) {
+            final var etag = "W/\"%s\"".formatted(mockEmployeeService.getRosterVersion());
+            if (matches(ifNoneMatch, etag)) {
+                final var notModified = ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag);
+                if (limit == null && rosterResponseCache.isEnabled()) {
+                    notModified.varyBy(HttpHeaders.ACCEPT_ENCODING);
+                }
+                return notModified.build();
+            }
+        }
+        if (limit == null && cursor == null) {
+            if (rosterResponseCache.isEnabled()) {
+                return getSerializedEmployees(acceptEncoding);
+            }
+            final var roster = mockEmployeeService.getRoster();
+            return ResponseEntity.ok()
+                    .eTag("W/\"%s\"".formatted(roster.version()))
+                    .body(Response.handledWith(roster.employees()));
+        }
+        if (limit == null || limit < 1) {
+            return ResponseEntity.badRequest().body(Response.error("Paging needs a positive limit."));
+        }
+
+        return mockEmployeeService
+                .getRosterPage(cursor, limit)
+                .map(page -> {
+                    final var response = ResponseEntity.ok()
+                            .eTag("W/\"%s\"".formatted(page.version()))
+                            .header(TOTAL_COUNT_HEADER, String.valueOf(page.total()));
+                    if (page.nextCursor() != null) {
+                        response.header(NEXT_CURSOR_HEADER, page.nextCursor());
+                    }
+                    return response.body(Response.handledWith(page.employees()));
+                })
+                .orElseGet(() -> ResponseEntity.status(HttpStatus.GONE)
+                        .body(Response.error("Cursor " + cursor + " has expired; start again without one.")));
+    }
+
+    /*
+     * Lets a client that holds the roster at some version catch up without fetching it again. 410 Gone tells it that
+     * it has to.
+     */
+    @GetMapping("/changes")
+    public ResponseEntity<Response<MockEmployeeChanges>> getChanges(@RequestParam("since") String since) {
+        return mockEmployeeService
+                .changesSince(since)
+                .map(changes -> ResponseEntity.ok(Response.handledWith(changes)))
+                .orElseGet(() -> ResponseEntity.status(HttpStatus.GONE)
+                        .body(Response.error("Changes since " + since + " are no longer available.")));
+    }
+
+    private ResponseEntity<byte[]> getSerializedEmployees(String acceptEncoding) {
+        final var roster = rosterResponseCache.get();
+        final var response = ResponseEntity.ok()
+                .eTag("W/\"%s\"".formatted(roster.version()))
+                .contentType(MediaType.APPLICATION_JSON)
+                .varyBy(HttpHeaders.ACCEPT_ENCODING);
+        if (acceptsGzip(acceptEncoding)) {
+            return response.header(HttpHeaders.CONTENT_ENCODING, "gzip").body(roster.gzippedBody());
+        }
+        return response.body(roster.body());
+    }
+
+    /*
+     * Weak comparison, as If-None-Match calls for: W/"v" and "v" both match the current version.
+     */
+    private static boolean matches(String ifNoneMatch, String etag) {
+        final var current = etag.substring(2);
+        for (String candidate : ifNoneMatch.split(",")) {
+            final var tag = candidate.trim();
+            if (tag.equals("*") || tag.equals(current) || tag.equals(etag)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static boolean acceptsGzip(String acceptEncoding) {
+        if (acceptEncoding == null) {
+            return false;
+        }
+        for (String coding : acceptEncoding.split(",")) {
+            final var parameters = coding.split(";");
+            if (parameters[0].trim().equalsIgnoreCase("gzip")) {
+                // gzip;q=0 means anything but gzip
+                return parameters.length == 1 || !parameters[1].trim().matches("q=0(\\.0*)?");
+            }
+        }
+        return false;
     }
 
     @GetMapping("/{id}")
@@ -0,0 +1,12 @@
+package com.reliaquest.server.model;
+
+/**
+ * A create or delete, numbered with the roster version it produced.
+ */
+public record MockEmployeeChange(long version, Type type, MockEmployee employee) {
+
+    public enum Type {
+        CREATED,
+        DELETED
+    }
+}
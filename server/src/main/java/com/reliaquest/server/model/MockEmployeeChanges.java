@@ -0,0 +1,8 @@
+package com.reliaquest.server.model;
+
+import java.util.List;
+
+/**
+ * The changes after some roster version, oldest first, and the roster version they bring the caller up to.
+ */
+public record MockEmployeeChanges(String version, List<MockEmployeeChange> changes) {}
@@ -0,0 +1,8 @@
+package com.reliaquest.server.model;
+
+import java.util.List;
+
+/**
+ * The roster as of one version, in insertion order.
+ */
+public record MockEmployeeRoster(String version, List<MockEmployee> employees) {}
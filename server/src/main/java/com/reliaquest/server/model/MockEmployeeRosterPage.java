@@ -0,0 +1,9 @@
+package com.reliaquest.server.model;
+
+import java.util.List;
+
+/**
+ * One page of the roster as of {@code version}, with the cursor of the next page, or a null {@code nextCursor} on the
+ * last one.
+ */
+public record MockEmployeeRosterPage(String version, int total, List<MockEmployee> employees, String nextCursor) {}
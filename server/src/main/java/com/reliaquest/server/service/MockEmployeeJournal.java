@@ -0,0 +1,594 @@
+package com.reliaquest.server.service;
+
+import com.reliaquest.server.model.MockEmployee;
+import com.reliaquest.server.model.MockEmployeeChange;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+import java.util.zip.CRC32;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Keeps the mock roster across restarts. Every committed create and delete is appended to a memory-mapped log
+ * segment; once a segment has taken {@code compactEvery} changes or is full, a new one is started and the roster is
+ * compacted in the background into a snapshot, which replaces the segments it covers. On startup the snapshot is read
+ * and the segments written after it are replayed, instead of seeding a new roster.
+ *
+ * <p>An append is a copy into the mapped segment, so it survives the process dying. When a segment is done, appends
+ * move on to a spare one created ahead of time, and the compactor thread forces the done segment to disk and creates
+ * the next spare, so a commit does not wait for the file system. Snapshots are forced when they are written, so an
+ * operating system crash can lose what has not been forced yet. Every record carries a CRC32 and its version. Replay
+ * stops at the first record that does not match its CRC32 or does not follow the version before it; the log is cut
+ * there and the segments after it are deleted, so the recovered roster never skips a change and new segments do not
+ * end up behind the cut.
+ */
+@Slf4j
+public class MockEmployeeJournal implements Closeable {
+
+    private static final int SNAPSHOT_MAGIC = 0x4d455331;
+    private static final int SEGMENT_MAGIC = 0x4d454c31;
+    private static final String SNAPSHOT_FILE = "snapshot.bin";
+    private static final String SEGMENT_PREFIX = "log-";
+    private static final String SEGMENT_SUFFIX = ".bin";
+
+    private static final byte CREATED = 1;
+    private static final byte DELETED = 2;
+
+    // length before the record, CRC after it
+    private static final int RECORD_FRAMING = 2 * Integer.BYTES;
+
+    @Getter
+    private final Path directory;
+
+    private final int segmentSize;
+    private final int compactEvery;
+
+    // everything below is guarded by this journal's monitor; appends already arrive one at a time, in version order
+    private ByteBuffer record = ByteBuffer.allocate(4 * 1024);
+    private final CRC32 recordChecksum = new CRC32();
+    private long nextSegment;
+    private Segment segment;
+    // created by the compactor thread for the next roll, so appends do not create files
+    private Segment spare;
+    private int segmentRecords;
+    private long lastVersion;
+    // segments no longer appended to, oldest first, waiting for a snapshot that covers them
+    private final Deque<SealedSegment> sealed = new ArrayDeque<>();
+    private boolean closed;
+
+    private Supplier<MockEmployeeStore.Snapshot> snapshots;
+    private final ExecutorService compactor = Executors.newSingleThreadExecutor(runnable -> {
+        final var thread = new Thread(runnable, "mock-employee-compactor");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private final AtomicBoolean compactionPending = new AtomicBoolean();
+
+    public MockEmployeeJournal(Path directory, int segmentSize, int compactEvery) throws IOException {
+        if (segmentSize < 64 * 1024) {
+            throw new IllegalArgumentException("Segment size must be at least 64KB, was " + segmentSize);
+        }
+        if (compactEvery < 1) {
+            throw new IllegalArgumentException("Compaction interval must be positive, was " + compactEvery);
+        }
+        this.directory = Files.createDirectories(directory);
+        this.segmentSize = segmentSize;
+        this.compactEvery = compactEvery;
+    }
+
+    /**
+     * Whether there is a roster to recover, so seeding a new one can be skipped.
+     */
+    public boolean hasState() throws IOException {
+        return Files.exists(directory.resolve(SNAPSHOT_FILE)) || !segments().isEmpty();
+    }
+
+    /**
+     * Reads the snapshot and replays the segments written after it, or returns empty if the journal has nothing yet.
+     */
+    synchronized Optional<MockEmployeeStore.Snapshot> recover() throws IOException {
+        final var snapshotFile = directory.resolve(SNAPSHOT_FILE);
+        final var segments = segments();
+        if (!Files.exists(snapshotFile) && segments.isEmpty()) {
+            return Optional.empty();
+        }
+
+        final long startedAt = System.nanoTime();
+        final var employees = new LinkedHashMap<UUID, MockEmployee>();
+        final long snapshotVersion = Files.exists(snapshotFile) ? readSnapshot(snapshotFile, employees) : 0;
+        lastVersion = snapshotVersion;
+        int replayed = 0;
+        Path cut = null;
+        for (Path path : segments) {
+            if (cut != null) {
+                log.warn("Deleting log segment {}, written after the log was cut in {}", path, cut);
+                Files.delete(path);
+                continue;
+            }
+            final var replay = replaySegment(path, lastVersion, employees);
+            replayed++;
+            lastVersion = replay.lastVersion();
+            sealed.addLast(new SealedSegment(path, lastVersion));
+            nextSegment = segmentNumber(path) + 1;
+            if (replay.cutAt() >= 0) {
+                try (var channel = FileChannel.open(path, StandardOpenOption.WRITE)) {
+                    channel.truncate(replay.cutAt());
+                    channel.force(true);
+                }
+                cut = path;
+            }
+        }
+        log.info(
+                "Recovered {} employees at version {} from {} and {} log segments in {} ms",
+                employees.size(),
+                lastVersion,
+                directory,
+                replayed,
+                TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt));
+        return Optional.of(new MockEmployeeStore.Snapshot(lastVersion, new ArrayList<>(employees.values())));
+    }
+
+    /**
+     * Starts a new segment for {@link #append(MockEmployeeChange) appends}. Without a snapshot yet, the roster at hand
+     * is written as the first one before returning; replayed segments are compacted in the background.
+     */
+    synchronized void open(Supplier<MockEmployeeStore.Snapshot> snapshots) throws IOException {
+        this.snapshots = snapshots;
+        if (!Files.exists(directory.resolve(SNAPSHOT_FILE))) {
+            writeSnapshot(snapshots.get());
+        }
+        segment = createSegment(nextSegment++);
+        segmentRecords = 0;
+        if (!compactor.isShutdown()) {
+            compactor.execute(this::prepareSpare);
+        }
+        if (!sealed.isEmpty()) {
+            scheduleCompaction();
+        }
+    }
+
+    /**
+     * Appends a committed change. The store hands changes over one at a time, in version order.
+     */
+    synchronized void append(MockEmployeeChange change) {
+        if (closed || segment == null) {
+            log.warn("Dropping change {} made while the journal is not open", change.version());
+            return;
+        }
+
+        record = encode(record, buffer -> {
+            buffer.putLong(change.version());
+            if (change.type() == MockEmployeeChange.Type.CREATED) {
+                buffer.put(CREATED);
+                putEmployee(buffer, change.employee());
+            } else {
+                buffer.put(DELETED);
+                putUuid(buffer, change.employee().getId());
+            }
+        });
+        final int length = record.remaining();
+        if (length + RECORD_FRAMING > segmentSize - Integer.BYTES) {
+            throw new IllegalStateException("Change " + change.version() + " does not fit in a log segment");
+        }
+        recordChecksum.reset();
+        recordChecksum.update(record.duplicate());
+
+        if (segmentRecords >= compactEvery || segment.buffer().remaining() < length + RECORD_FRAMING) {
+            roll();
+            scheduleCompaction();
+        }
+        segment.buffer().putInt(length).put(record).putInt((int) recordChecksum.getValue());
+        segmentRecords++;
+        lastVersion = change.version();
+    }
+
+    /**
+     * Waits for a running compaction and forces the open segment to disk. The unused spare segment is deleted.
+     */
+    @Override
+    public void close() throws IOException {
+        compactor.shutdown();
+        try {
+            if (!compactor.awaitTermination(1, TimeUnit.MINUTES)) {
+                log.warn("Gave up waiting for compaction; the log is replayed on the next start");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        synchronized (this) {
+            if (closed) {
+                return;
+            }
+            closed = true;
+            if (segment != null) {
+                segment.buffer().force();
+                segment.channel().close();
+            }
+            if (spare != null) {
+                discard(spare);
+                spare = null;
+            }
+        }
+    }
+
+    /**
+     * Moves appends on to the spare segment and hands the done one to the compactor thread to seal.
+     */
+    private void roll() {
+        final var done = segment;
+        final long doneVersion = lastVersion;
+        if (spare != null) {
+            segment = spare;
+            spare = null;
+        } else {
+            // the compactor has not caught up; creating a segment here is slower, but still does not force anything
+            log.debug("No spare log segment ready, creating one on the commit path");
+            try {
+                segment = createSegment(nextSegment++);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+        segmentRecords = 0;
+        try {
+            compactor.execute(() -> {
+                seal(done, doneVersion);
+                prepareSpare();
+            });
+        } catch (RejectedExecutionException e) {
+            // closing, and close() only forces the open segment
+            seal(done, doneVersion);
+        }
+    }
+
+    /**
+     * Forces a segment that is no longer appended to and queues it for the next compaction.
+     */
+    private void seal(Segment done, long doneVersion) {
+        try {
+            done.buffer().force();
+            done.channel().close();
+        } catch (IOException e) {
+            log.error("Could not force log segment {}; it is still replayed if the process stops", done.path(), e);
+        }
+        synchronized (this) {
+            sealed.addLast(new SealedSegment(done.path(), doneVersion));
+        }
+    }
+
+    /**
+     * Creates the segment the next roll moves on to, outside the journal's monitor so appends carry on meanwhile.
+     */
+    private void prepareSpare() {
+        final long number;
+        synchronized (this) {
+            if (closed || spare != null) {
+                return;
+            }
+            number = nextSegment++;
+        }
+        final Segment prepared;
+        try {
+            prepared = createSegment(number);
+        } catch (IOException e) {
+            log.warn("Could not create a spare log segment; the next roll creates one", e);
+            return;
+        }
+        synchronized (this) {
+            // a roll that could not wait for it has since opened a later segment, and replay goes by number
+            if (!closed && spare == null && number > segment.number()) {
+                spare = prepared;
+                return;
+            }
+        }
+        try {
+            discard(prepared);
+        } catch (IOException e) {
+            log.warn("Could not delete unused log segment {}", prepared.path(), e);
+        }
+    }
+
+    private void scheduleCompaction() {
+        if (!compactor.isShutdown() && compactionPending.compareAndSet(false, true)) {
+            compactor.execute(this::compact);
+        }
+    }
+
+    private void compact() {
+        compactionPending.set(false);
+        try {
+            final long startedAt = System.nanoTime();
+            final var snapshot = snapshots.get();
+            writeSnapshot(snapshot);
+
+            final var covered = new ArrayList<Path>();
+            synchronized (this) {
+                while (!sealed.isEmpty() && sealed.peekFirst().lastVersion() <= snapshot.version()) {
+                    covered.add(sealed.removeFirst().path());
+                }
+            }
+            for (Path path : covered) {
+                Files.deleteIfExists(path);
+            }
+            log.info(
+                    "Compacted {} employees at version {}, dropping {} log segments, in {} ms",
+                    snapshot.employees().size(),
+                    snapshot.version(),
+                    covered.size(),
+                    TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt));
+        } catch (IOException | RuntimeException e) {
+            log.error("Compaction failed; the log is kept and replayed on the next start", e);
+        }
+    }
+
+    private Segment createSegment(long number) throws IOException {
+        final var path = directory.resolve(SEGMENT_PREFIX + "%020d".formatted(number) + SEGMENT_SUFFIX);
+        final var channel = FileChannel.open(
+                path, StandardOpenOption.CREATE_NEW, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        // mapping past the end grows the file; the unwritten rest reads as zeros, which ends replay
+        final var buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, segmentSize);
+        buffer.putInt(SEGMENT_MAGIC);
+        return new Segment(number, path, channel, buffer);
+    }
+
+    /**
+     * Deletes a segment that never had a record appended to it.
+     */
+    private static void discard(Segment unused) throws IOException {
+        unused.channel().close();
+        Files.deleteIfExists(unused.path());
+    }
+
+    /**
+     * Writes the snapshot next to the current one and moves it over it, so a crash leaves one or the other.
+     */
+    private void writeSnapshot(MockEmployeeStore.Snapshot snapshot) throws IOException {
+        final var temporary = directory.resolve(SNAPSHOT_FILE + ".tmp");
+        final var checksum = new CRC32();
+        var out = ByteBuffer.allocate(1024 * 1024);
+        var employee = ByteBuffer.allocate(4 * 1024);
+        try (var channel = FileChannel.open(
+                temporary,
+                StandardOpenOption.CREATE,
+                StandardOpenOption.TRUNCATE_EXISTING,
+                StandardOpenOption.WRITE)) {
+            out.putInt(SNAPSHOT_MAGIC).putLong(snapshot.version()).putInt(snapshot.employees().size());
+            for (MockEmployee mockEmployee : snapshot.employees()) {
+                employee = encode(employee, buffer -> putEmployee(buffer, mockEmployee));
+                if (out.remaining() < employee.remaining()) {
+                    flush(channel, out, checksum);
+                    if (out.capacity() < employee.remaining()) {
+                        out = ByteBuffer.allocate(employee.remaining());
+                    }
+                }
+                out.put(employee);
+            }
+            flush(channel, out, checksum);
+            out.putInt((int) checksum.getValue()).flip();
+            while (out.hasRemaining()) {
+                channel.write(out);
+            }
+            channel.force(true);
+        }
+        Files.move(
+                temporary,
+                directory.resolve(SNAPSHOT_FILE),
+                StandardCopyOption.REPLACE_EXISTING,
+                StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    private static void flush(FileChannel channel, ByteBuffer out, CRC32 checksum) throws IOException {
+        out.flip();
+        checksum.update(out.duplicate());
+        while (out.hasRemaining()) {
+            channel.write(out);
+        }
+        out.clear();
+    }
+
+    /**
+     * Reads the snapshot into {@code employees} and returns its version.
+     */
+    private static long readSnapshot(Path path, Map<UUID, MockEmployee> employees) throws IOException {
+        try (var channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            final long size = channel.size();
+            if (size > Integer.MAX_VALUE) {
+                throw new IOException("Snapshot " + path + " is too large to map: " + size + " bytes");
+            }
+            if (size < 16 + Integer.BYTES) {
+                throw new IOException("Snapshot " + path + " is truncated");
+            }
+            final var buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, size);
+            final var checksum = new CRC32();
+            checksum.update(buffer.slice(0, (int) size - Integer.BYTES));
+            if (buffer.getInt(0) != SNAPSHOT_MAGIC
+                    || buffer.getInt((int) size - Integer.BYTES) != (int) checksum.getValue()) {
+                throw new IOException("Snapshot " + path + " is corrupt");
+            }
+
+            final long version = buffer.position(Integer.BYTES).getLong();
+            final int count = buffer.getInt();
+            for (int i = 0; i < count; i++) {
+                final var mockEmployee = getEmployee(buffer);
+                employees.put(mockEmployee.getId(), mockEmployee);
+            }
+            return version;
+        }
+    }
+
+    /**
+     * Applies the segment's changes after {@code since} to {@code employees}, as long as each is the version after the
+     * one before it, and returns the version the roster is at and where the log has to be cut, if it does.
+     */
+    private static Replay replaySegment(Path path, long since, Map<UUID, MockEmployee> employees) throws IOException {
+        long last = since;
+        try (var channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            final var buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            if (buffer.remaining() < Integer.BYTES || buffer.getInt() != SEGMENT_MAGIC) {
+                log.warn("Skipping log segment {} without a header", path);
+                return new Replay(last, -1);
+            }
+            final var checksum = new CRC32();
+            while (buffer.remaining() >= RECORD_FRAMING) {
+                final int start = buffer.position();
+                final int length = buffer.getInt();
+                if (length == 0) {
+                    break;
+                }
+                if (length < 0 || length + Integer.BYTES > buffer.remaining()) {
+                    log.warn("Log segment {} has a torn record after version {}", path, last);
+                    return new Replay(last, start);
+                }
+                final var record = buffer.slice(buffer.position(), length);
+                checksum.reset();
+                checksum.update(record.duplicate());
+                if (buffer.getInt(buffer.position() + length) != (int) checksum.getValue()) {
+                    log.warn("Log segment {} has a torn record after version {}", path, last);
+                    return new Replay(last, start);
+                }
+                buffer.position(buffer.position() + length + Integer.BYTES);
+
+                final long version = record.getLong();
+                if (version <= last) {
+                    continue;
+                }
+                if (version != last + 1) {
+                    log.warn("Log segment {} skips from version {} to {}", path, last, version);
+                    return new Replay(last, start);
+                }
+                if (record.get() == CREATED) {
+                    final var mockEmployee = getEmployee(record);
+                    employees.put(mockEmployee.getId(), mockEmployee);
+                } else {
+                    employees.remove(getUuid(record));
+                }
+                last = version;
+            }
+        }
+        return new Replay(last, -1);
+    }
+
+    private List<Path> segments() throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.filter(path -> {
+                        final var name = path.getFileName().toString();
+                        return name.startsWith(SEGMENT_PREFIX) && name.endsWith(SEGMENT_SUFFIX);
+                    })
+                    .sorted(Comparator.comparingLong(MockEmployeeJournal::segmentNumber))
+                    .toList();
+        }
+    }
+
+    private static long segmentNumber(Path path) {
+        final var name = path.getFileName().toString();
+        return Long.parseLong(name.substring(SEGMENT_PREFIX.length(), name.length() - SEGMENT_SUFFIX.length()));
+    }
+
+    /**
+     * Clears {@code buffer} and runs {@code encoder} on it, retrying on a larger buffer until the encoding fits, and
+     * returns the buffer holding it, flipped for reading.
+     */
+    private static ByteBuffer encode(ByteBuffer buffer, Consumer<ByteBuffer> encoder) {
+        while (true) {
+            try {
+                encoder.accept(buffer.clear());
+                return buffer.flip();
+            } catch (BufferOverflowException e) {
+                buffer = ByteBuffer.allocate(buffer.capacity() * 2);
+            }
+        }
+    }
+
+    private static void putEmployee(ByteBuffer buffer, MockEmployee mockEmployee) {
+        putUuid(buffer, mockEmployee.getId());
+        putString(buffer, mockEmployee.getName());
+        putInteger(buffer, mockEmployee.getSalary());
+        putInteger(buffer, mockEmployee.getAge());
+        putString(buffer, mockEmployee.getTitle());
+        putString(buffer, mockEmployee.getEmail());
+    }
+
+    private static MockEmployee getEmployee(ByteBuffer buffer) {
+        return MockEmployee.builder()
+                .id(getUuid(buffer))
+                .name(getString(buffer))
+                .salary(getInteger(buffer))
+                .age(getInteger(buffer))
+                .title(getString(buffer))
+                .email(getString(buffer))
+                .build();
+    }
+
+    private static void putUuid(ByteBuffer buffer, UUID uuid) {
+        buffer.putLong(uuid.getMostSignificantBits()).putLong(uuid.getLeastSignificantBits());
+    }
+
+    private static UUID getUuid(ByteBuffer buffer) {
+        return new UUID(buffer.getLong(), buffer.getLong());
+    }
+
+    private static void putString(ByteBuffer buffer, String value) {
+        if (value == null) {
+            buffer.putInt(-1);
+            return;
+        }
+        final var bytes = value.getBytes(StandardCharsets.UTF_8);
+        buffer.putInt(bytes.length).put(bytes);
+    }
+
+    private static String getString(ByteBuffer buffer) {
+        final int length = buffer.getInt();
+        if (length < 0) {
+            return null;
+        }
+        final var bytes = new byte[length];
+        buffer.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private static void putInteger(ByteBuffer buffer, Integer value) {
+        if (value == null) {
+            buffer.put((byte) 0);
+        } else {
+            buffer.put((byte) 1).putInt(value);
+        }
+    }
+
+    private static Integer getInteger(ByteBuffer buffer) {
+        return buffer.get() == 0 ? null : buffer.getInt();
+    }
+
+    private record Segment(long number, Path path, FileChannel channel, MappedByteBuffer buffer) {}
+
+    private record SealedSegment(Path path, long lastVersion) {}
+
+    // cutAt is the offset of the first record not replayed, or -1 if the segment replayed to its end
+    private record Replay(long lastVersion, long cutAt) {}
+}
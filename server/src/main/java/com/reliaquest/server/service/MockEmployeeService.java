@@ -4,32 +4,159 @@ import com.reliaquest.server.config.ServerConfiguration;
 import com.reliaquest.server.model.CreateMockEmployeeInput;
 import com.reliaquest.server.model.DeleteMockEmployeeInput;
 import com.reliaquest.server.model.MockEmployee;
+import com.reliaquest.server.model.MockEmployeeChanges;
+import com.reliaquest.server.model.MockEmployeeRoster;
+import com.reliaquest.server.model.MockEmployeeRosterPage;
+import java.io.IOException;
+import java.util.LinkedHashMap;
 import java.util.List;
-import java.util.Objects;
+import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
-import lombok.Getter;
 import lombok.NonNull;
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import net.datafaker.Faker;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 
 @Slf4j
 @Service
-@RequiredArgsConstructor
 public class MockEmployeeService {
 
+    /*
+     * Rosters being paged through are kept by version, so every page of one read comes from the same version. A few are
+     * kept so that clients paging at different versions do not expire each other's cursors.
+     */
+    private static final int MAX_PAGED_ROSTERS = 4;
+
+    /*
+     * A kept roster keeps the employees deleted since its version in the store, so it expires once this many changes
+     * have been made after it, as the change log does.
+     */
+    private static final int MAX_PAGED_ROSTER_AGE = 10_000;
+
     private final Faker faker;
 
-    @Getter
-    private final List<MockEmployee> mockEmployees;
+    private final MockEmployeeStore mockEmployees;
+
+    /*
+     * Identifies this run's roster, which is generated at random on startup, so versions from a previous run never
+     * match the current one. A roster recovered from the journal still gets a new generation: the changes of the
+     * previous run are not kept in memory, so its clients have to fetch the roster again anyway.
+     */
+    private final long generation = System.currentTimeMillis();
+
+    private final Map<String, MockEmployeeStore.View> pagedRosters = new LinkedHashMap<>();
+
+    public MockEmployeeService(Faker faker, List<MockEmployee> mockEmployees) {
+        this.faker = faker;
+        this.mockEmployees = new MockEmployeeStore(mockEmployees);
+    }
+
+    /**
+     * With a journal, the roster is recovered from it when it has one and {@code mockEmployees} is only the seed of a
+     * new journal; every change is then appended to it.
+     */
+    @Autowired
+    public MockEmployeeService(
+            Faker faker, List<MockEmployee> mockEmployees, ObjectProvider<MockEmployeeJournal> mockEmployeeJournal)
+            throws IOException {
+        this.faker = faker;
+        final var journal = mockEmployeeJournal.getIfAvailable();
+        if (journal == null) {
+            this.mockEmployees = new MockEmployeeStore(mockEmployees);
+            return;
+        }
+
+        final var recovered = journal.recover().orElseGet(() -> new MockEmployeeStore.Snapshot(0, mockEmployees));
+        this.mockEmployees = new MockEmployeeStore(recovered.employees(), recovered.version(), journal::append);
+        journal.open(this.mockEmployees::snapshot);
+    }
+
+    /**
+     * Returns a copy of the roster in insertion order.
+     */
+    public List<MockEmployee> getMockEmployees() {
+        return mockEmployees.snapshot().employees();
+    }
+
+    /**
+     * Returns a consistent copy of the roster together with the version it is at, as {@code <generation>-<version>},
+     * the form {@link #changesSince(String)} takes.
+     */
+    public MockEmployeeRoster getRoster() {
+        final var snapshot = mockEmployees.snapshot();
+        return new MockEmployeeRoster(rosterVersion(snapshot.version()), snapshot.employees());
+    }
+
+    /**
+     * Returns the current roster version, as {@link #getRoster()} would, without copying the roster.
+     */
+    public String getRosterVersion() {
+        return rosterVersion(mockEmployees.version());
+    }
+
+    /**
+     * Returns up to {@code limit} employees starting at {@code cursor}, or the first page of the current roster for a
+     * null cursor. Cursors are {@code <roster version>:<offset>}, so a client that knows the total can fetch later
+     * pages in parallel. Empty if the cursor is malformed or its roster is no longer kept, in which case the caller has
+     * to start again without one.
+     *
+     * <p>Pages are cut from a {@link MockEmployeeStore.View view} of the roster at its version rather than from a copy,
+     * and first pages at a version that is already kept reuse its view.
+     */
+    public Optional<MockEmployeeRosterPage> getRosterPage(String cursor, int limit) {
+        if (cursor == null) {
+            Optional<MockEmployeeRosterPage> page;
+            do {
+                // empty only if the kept view was closed while the page was cut; a newer version is current by then
+                page = getFirstPage(limit);
+            } while (page.isEmpty());
+            return page;
+        }
+
+        final int separator = cursor.lastIndexOf(':');
+        final int offset;
+        try {
+            offset = Integer.parseInt(cursor.substring(separator + 1));
+        } catch (NumberFormatException e) {
+            return Optional.empty();
+        }
+        final MockEmployeeStore.View view;
+        synchronized (pagedRosters) {
+            view = pagedRosters.get(cursor.substring(0, Math.max(separator, 0)));
+        }
+        if (view == null || offset < 0) {
+            return Optional.empty();
+        }
+        return page(view, offset, limit);
+    }
+
+    /**
+     * Returns the changes made after roster version {@code since}, or empty if that version is from another run, in
+     * the future, or older than the retained changes, in which case the caller has to fetch the roster again.
+     */
+    public Optional<MockEmployeeChanges> changesSince(@NonNull String since) {
+        final int separator = since.lastIndexOf('-');
+        final long sinceGeneration;
+        final long sinceVersion;
+        try {
+            sinceGeneration = Long.parseLong(since.substring(0, Math.max(separator, 0)));
+            sinceVersion = Long.parseLong(since.substring(separator + 1));
+        } catch (NumberFormatException e) {
+            return Optional.empty();
+        }
+        if (sinceGeneration != generation) {
+            return Optional.empty();
+        }
+
+        return mockEmployees.changesSince(sinceVersion).map(missed -> new MockEmployeeChanges(
+                rosterVersion(missed.isEmpty() ? sinceVersion : missed.get(missed.size() - 1).version()), missed));
+    }
 
     public Optional<MockEmployee> findById(@NonNull UUID uuid) {
-        return mockEmployees.stream()
-                .filter(mockEmployee -> Objects.nonNull(mockEmployee.getId())
-                        && mockEmployee.getId().equals(uuid))
-                .findFirst();
+        return mockEmployees.findById(uuid);
     }
 
     public MockEmployee create(@NonNull CreateMockEmployeeInput input) {
@@ -43,16 +170,81 @@ public class MockEmployeeService {
     }
 
     public boolean delete(@NonNull DeleteMockEmployeeInput input) {
-        final var mockEmployee = mockEmployees.stream()
-                .filter(employee -> Objects.nonNull(employee.getName())
-                        && employee.getName().equalsIgnoreCase(input.getName()))
-                .findFirst();
+        if (input.getName() == null) {
+            return false;
+        }
+        final var mockEmployee = mockEmployees.removeByName(input.getName());
         if (mockEmployee.isPresent()) {
-            mockEmployees.remove(mockEmployee.get());
             log.debug("Removed employee: {}", mockEmployee.get());
+            expirePagedRosters();
             return true;
         }
 
         return false;
     }
+
+    private Optional<MockEmployeeRosterPage> getFirstPage(int limit) {
+        MockEmployeeStore.View view;
+        synchronized (pagedRosters) {
+            view = pagedRosters.get(getRosterVersion());
+        }
+        if (view == null) {
+            view = mockEmployees.view();
+            if (view.size() <= limit) {
+                // a single page; nobody comes back for the rest
+                try (var single = view) {
+                    return page(single, 0, limit);
+                }
+            }
+            view = keep(view);
+        }
+        return page(view, 0, limit);
+    }
+
+    /**
+     * Keeps {@code view} for later pages, or the view already kept at its version, evicting the oldest roster when too
+     * many are kept.
+     */
+    private MockEmployeeStore.View keep(MockEmployeeStore.View view) {
+        synchronized (pagedRosters) {
+            final var kept = pagedRosters.putIfAbsent(rosterVersion(view.version()), view);
+            if (kept != null) {
+                view.close();
+                return kept;
+            }
+            if (pagedRosters.size() > MAX_PAGED_ROSTERS) {
+                final var eldest = pagedRosters.entrySet().iterator();
+                eldest.next().getValue().close();
+                eldest.remove();
+            }
+            return view;
+        }
+    }
+
+    private void expirePagedRosters() {
+        final long oldest = mockEmployees.version() - MAX_PAGED_ROSTER_AGE;
+        synchronized (pagedRosters) {
+            final var kept = pagedRosters.values().iterator();
+            while (kept.hasNext()) {
+                final var view = kept.next();
+                if (view.version() < oldest) {
+                    view.close();
+                    kept.remove();
+                }
+            }
+        }
+    }
+
+    private Optional<MockEmployeeRosterPage> page(MockEmployeeStore.View view, int offset, int limit) {
+        final var version = rosterVersion(view.version());
+        return view.page(offset, limit).map(employees -> {
+            final int end = offset + employees.size();
+            return new MockEmployeeRosterPage(
+                    version, view.size(), employees, end < view.size() ? version + ":" + end : null);
+        });
+    }
+
+    private String rosterVersion(long version) {
+        return generation + "-" + version;
+    }
 }
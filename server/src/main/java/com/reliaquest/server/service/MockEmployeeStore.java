@@ -0,0 +1,422 @@
+package com.reliaquest.server.service;
+
+import com.reliaquest.server.model.MockEmployee;
+import com.reliaquest.server.model.MockEmployeeChange;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Queue;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ConcurrentNavigableMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+
+/**
+ * Concurrent employee store: employees in insertion order, indexed by id and by case-folded name so lookups and deletes
+ * by either are O(1), with a versioned change log.
+ *
+ * <p>Every create and delete is committed with the next roster version. Readers never lock: a {@link #snapshot()}
+ * reads the current version and walks the insertion-ordered skip list, keeping the employees created at or before it
+ * and not deleted at or before it. Deleted employees stay in the skip list until no snapshot that can still see them
+ * is running, so a snapshot is exactly the roster at its version however many writes land while it is taken. A
+ * {@link #view()} holds a version open the same way for as long as it is paged through, without copying the roster.
+ *
+ * <p>Writers to the same case-folded name serialize on that name's map bin; only the commit itself (version, change
+ * log) is global, and it is a handful of field writes. Committed changes are queued in version order and handed to the
+ * journal by the writers once they have let go of the bin, one writer at a time, so the journal still sees them in
+ * version order but an append that has to wait for the file system holds up no bin.
+ */
+class MockEmployeeStore {
+
+    /*
+     * Callers further behind than this have to fetch the whole roster again.
+     */
+    private static final int MAX_RETAINED_CHANGES = 10_000;
+
+    /*
+     * A view remembers where every this-many-th employee is, so a page at any offset starts within this many entries.
+     */
+    private static final int VIEW_MARK_INTERVAL = 256;
+
+    private static final long UNCOMMITTED = Long.MAX_VALUE;
+    private static final long LIVE = Long.MAX_VALUE;
+
+    private final ConcurrentNavigableMap<Long, Entry> entriesBySequence = new ConcurrentSkipListMap<>();
+    private final Map<UUID, Entry> entriesById = new ConcurrentHashMap<>();
+    // employees sharing a name are kept in insertion order, so the first one is the one a list scan would find
+    private final Map<String, Deque<Entry>> entriesByName = new ConcurrentHashMap<>();
+    private final AtomicLong nextSequence = new AtomicLong();
+
+    private final Object commitLock = new Object();
+    private final Deque<MockEmployeeChange> changes = new ArrayDeque<>();
+    private volatile long version;
+    // committed changes not handed to the journal yet, queued under the commit lock so in version order
+    private final Queue<MockEmployeeChange> unjournaled = new ConcurrentLinkedQueue<>();
+    private final Object journalLock = new Object();
+
+    // snapshot versions in use, with how many snapshots use each
+    private final ConcurrentNavigableMap<Long, Integer> readers = new ConcurrentSkipListMap<>();
+    // deleted entries in delete order, waiting to leave the skip list
+    private final Queue<Entry> retired = new ConcurrentLinkedQueue<>();
+    private final AtomicBoolean reclaiming = new AtomicBoolean();
+    private volatile long reclaimedThrough;
+
+    private final Consumer<MockEmployeeChange> journal;
+
+    MockEmployeeStore(Collection<MockEmployee> mockEmployees) {
+        this(mockEmployees, 0, change -> {});
+    }
+
+    /**
+     * Starts the store at {@code version}, with {@code mockEmployees} as the roster at that version.
+     */
+    MockEmployeeStore(Collection<MockEmployee> mockEmployees, long version, Consumer<MockEmployeeChange> journal) {
+        this.version = version;
+        this.journal = journal;
+        mockEmployees.forEach(mockEmployee -> {
+            final var entry = new Entry(nextSequence.getAndIncrement(), mockEmployee);
+            entry.createdVersion = 0;
+            index(entry);
+        });
+    }
+
+    long version() {
+        return version;
+    }
+
+    /**
+     * Returns the roster at the current version, in insertion order, without blocking writers.
+     */
+    Snapshot snapshot() {
+        final long snapshotVersion = register();
+        try {
+            final var employees = new ArrayList<MockEmployee>();
+            for (Entry entry : entriesBySequence.values()) {
+                if (entry.visibleAt(snapshotVersion)) {
+                    employees.add(entry.employee);
+                }
+            }
+            return new Snapshot(snapshotVersion, employees);
+        } finally {
+            release(snapshotVersion);
+            reclaim();
+        }
+    }
+
+    /**
+     * Opens the roster at the current version for paging. Until the view is closed, deleted employees it can see are
+     * kept, as they are for a running snapshot; counting them is the only pass over the roster it takes.
+     */
+    View view() {
+        final long viewVersion = register();
+        var marks = new long[16];
+        int size = 0;
+        for (Entry entry : entriesBySequence.values()) {
+            if (entry.visibleAt(viewVersion)) {
+                if (size % VIEW_MARK_INTERVAL == 0) {
+                    if (size / VIEW_MARK_INTERVAL == marks.length) {
+                        marks = Arrays.copyOf(marks, marks.length * 2);
+                    }
+                    marks[size / VIEW_MARK_INTERVAL] = entry.sequence;
+                }
+                size++;
+            }
+        }
+        return new View(viewVersion, size, marks);
+    }
+
+    int size() {
+        return entriesById.size();
+    }
+
+    Optional<MockEmployee> findById(UUID id) {
+        final var entry = entriesById.get(id);
+        return entry != null && entry.isLive() ? Optional.of(entry.employee) : Optional.empty();
+    }
+
+    void add(MockEmployee mockEmployee) {
+        if (mockEmployee.getName() == null) {
+            commitCreate(new Entry(nextSequence.getAndIncrement(), mockEmployee));
+        } else {
+            // committed inside the bin, so a namesake delete never finds an entry that is not committed yet
+            entriesByName.compute(fold(mockEmployee.getName()), (name, namesakes) -> {
+                final var entry = new Entry(nextSequence.getAndIncrement(), mockEmployee);
+                final var indexed = namesakes == null ? new ArrayDeque<Entry>() : namesakes;
+                indexed.addLast(entry);
+                commitCreate(entry);
+                return indexed;
+            });
+        }
+        flushJournal();
+    }
+
+    /**
+     * Removes the first employee, in insertion order, whose name equals {@code name} ignoring case.
+     */
+    Optional<MockEmployee> removeByName(String name) {
+        final var removed = new Entry[1];
+        entriesByName.computeIfPresent(fold(name), (key, namesakes) -> {
+            removed[0] = namesakes.removeFirst();
+            commitDelete(removed[0]);
+            return namesakes.isEmpty() ? null : namesakes;
+        });
+        if (removed[0] == null) {
+            return Optional.empty();
+        }
+        flushJournal();
+        reclaim();
+        return Optional.of(removed[0].employee);
+    }
+
+    /**
+     * Returns the changes made after {@code since}, oldest first, or empty if that version is in the future or older
+     * than the retained changes.
+     */
+    Optional<List<MockEmployeeChange>> changesSince(long since) {
+        synchronized (commitLock) {
+            final long current = version;
+            if (since > current || since < current - changes.size()) {
+                return Optional.empty();
+            }
+            return Optional.of(changes.stream()
+                    .skip(changes.size() - (current - since))
+                    .toList());
+        }
+    }
+
+    private void commitCreate(Entry entry) {
+        entriesBySequence.put(entry.sequence, entry);
+        entriesById.put(entry.employee.getId(), entry);
+        synchronized (commitLock) {
+            final long committed = version + 1;
+            entry.createdVersion = committed;
+            final var change = new MockEmployeeChange(committed, MockEmployeeChange.Type.CREATED, entry.employee);
+            record(change);
+            version = committed;
+            unjournaled.add(change);
+        }
+    }
+
+    private void commitDelete(Entry entry) {
+        synchronized (commitLock) {
+            final long committed = version + 1;
+            entry.deletedVersion = committed;
+            final var change = new MockEmployeeChange(committed, MockEmployeeChange.Type.DELETED, entry.employee);
+            record(change);
+            retired.add(entry);
+            version = committed;
+            unjournaled.add(change);
+        }
+        entriesById.remove(entry.employee.getId(), entry);
+    }
+
+    /**
+     * Hands the queued changes to the journal. By the time it returns, the caller's own change has been handed over,
+     * by the caller or by the writer that was flushing when it got here.
+     */
+    private void flushJournal() {
+        synchronized (journalLock) {
+            MockEmployeeChange change;
+            while ((change = unjournaled.poll()) != null) {
+                journal.accept(change);
+            }
+        }
+    }
+
+    private void record(MockEmployeeChange change) {
+        changes.addLast(change);
+        if (changes.size() > MAX_RETAINED_CHANGES) {
+            changes.removeFirst();
+        }
+    }
+
+    private void index(Entry entry) {
+        entriesBySequence.put(entry.sequence, entry);
+        entriesById.put(entry.employee.getId(), entry);
+        if (entry.employee.getName() != null) {
+            entriesByName
+                    .computeIfAbsent(fold(entry.employee.getName()), name -> new ArrayDeque<>())
+                    .addLast(entry);
+        }
+    }
+
+    /**
+     * Registers a reader at the current version, which keeps the entries visible at it from being reclaimed.
+     */
+    private long register() {
+        while (true) {
+            final long readerVersion = version;
+            readers.merge(readerVersion, 1, Integer::sum);
+            // entries this reader needs may have been reclaimed before it was registered; take a newer version
+            if (reclaimedThrough <= readerVersion) {
+                return readerVersion;
+            }
+            release(readerVersion);
+        }
+    }
+
+    private void release(long snapshotVersion) {
+        readers.computeIfPresent(snapshotVersion, (key, count) -> count == 1 ? null : count - 1);
+    }
+
+    /**
+     * Drops deleted entries from the skip list once every running snapshot is at or past their delete.
+     */
+    private void reclaim() {
+        if (retired.isEmpty() || !reclaiming.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            long bound = version;
+            // publish the bound before looking for readers, so a snapshot registering concurrently either shows up
+            // below or sees the bound and retries with a newer version
+            reclaimedThrough = bound;
+            final var oldestReader = readers.firstEntry();
+            if (oldestReader != null) {
+                bound = Math.min(bound, oldestReader.getKey());
+            }
+            Entry entry;
+            while ((entry = retired.peek()) != null && entry.deletedVersion <= bound) {
+                retired.poll();
+                entriesBySequence.remove(entry.sequence);
+            }
+        } finally {
+            reclaiming.set(false);
+        }
+    }
+
+    /**
+     * Folds case char by char the way {@link String#equalsIgnoreCase(String)} compares, so two names fold to the same
+     * key exactly when they are equal ignoring case.
+     */
+    static String fold(String name) {
+        final var folded = new char[name.length()];
+        for (int i = 0; i < folded.length; i++) {
+            folded[i] = Character.toLowerCase(Character.toUpperCase(name.charAt(i)));
+        }
+        return new String(folded);
+    }
+
+    record Snapshot(long version, List<MockEmployee> employees) {}
+
+    /**
+     * The roster at one version, held open for paging; see {@link #view()}. Pages are cut from the store's own
+     * entries, so a view costs a few longs per {@value #VIEW_MARK_INTERVAL} employees rather than a copy of the roster.
+     */
+    final class View implements AutoCloseable {
+
+        private final long version;
+        private final int size;
+        // sequence of every VIEW_MARK_INTERVAL-th employee visible at the version
+        private final long[] marks;
+        // the view's own hold, plus one per page being cut; the version is released when the last is let go
+        private final AtomicInteger holds = new AtomicInteger(1);
+        private final AtomicBoolean closed = new AtomicBoolean();
+
+        private View(long version, int size, long[] marks) {
+            this.version = version;
+            this.size = size;
+            this.marks = marks;
+        }
+
+        long version() {
+            return version;
+        }
+
+        int size() {
+            return size;
+        }
+
+        /**
+         * Returns up to {@code limit} employees starting at {@code offset}, or empty if the view has been closed.
+         */
+        Optional<List<MockEmployee>> page(int offset, int limit) {
+            if (!hold()) {
+                return Optional.empty();
+            }
+            try {
+                if (offset >= size) {
+                    return Optional.of(List.of());
+                }
+                final var page = new ArrayList<MockEmployee>(Math.min(limit, size - offset));
+                int skip = offset % VIEW_MARK_INTERVAL;
+                final var from = entriesBySequence.tailMap(marks[offset / VIEW_MARK_INTERVAL], true);
+                for (Entry entry : from.values()) {
+                    if (!entry.visibleAt(version)) {
+                        continue;
+                    }
+                    if (skip > 0) {
+                        skip--;
+                        continue;
+                    }
+                    page.add(entry.employee);
+                    if (page.size() == limit) {
+                        break;
+                    }
+                }
+                return Optional.of(page);
+            } finally {
+                letGo();
+            }
+        }
+
+        /**
+         * Releases the version once pages being cut are done; later pages are empty.
+         */
+        @Override
+        public void close() {
+            if (closed.compareAndSet(false, true)) {
+                letGo();
+            }
+        }
+
+        private boolean hold() {
+            int current;
+            do {
+                current = holds.get();
+                if (current == 0) {
+                    return false;
+                }
+            } while (!holds.compareAndSet(current, current + 1));
+            return true;
+        }
+
+        private void letGo() {
+            if (holds.decrementAndGet() == 0) {
+                release(version);
+                reclaim();
+            }
+        }
+    }
+
+    private static final class Entry {
+
+        private final long sequence;
+        private final MockEmployee employee;
+        private volatile long createdVersion = UNCOMMITTED;
+        private volatile long deletedVersion = LIVE;
+
+        private Entry(long sequence, MockEmployee employee) {
+            this.sequence = sequence;
+            this.employee = employee;
+        }
+
+        private boolean visibleAt(long version) {
+            return createdVersion <= version && deletedVersion > version;
+        }
+
+        private boolean isLive() {
+            return createdVersion != UNCOMMITTED && deletedVersion == LIVE;
+        }
+    }
+}
@@ -12,24 +12,39 @@ import org.springframework.web.servlet.HandlerInterceptor;
 
 public class RandomRequestLimitInterceptor implements HandlerInterceptor {
 
-    private static final int REQUEST_LIMIT = RandomGenerator.getDefault().nextInt(5, 10);
-    private static final Duration REQUEST_BACKOFF_DURATION =
-            Duration.ofSeconds(RandomGenerator.getDefault().nextInt(30, 90));
+    @Getter
+    private final int limit;
+
+    @Getter
+    private final Duration backoff;
 
     private final AtomicReference<RequestLimit> requestLimit = new AtomicReference<>(RequestLimit.init());
 
+    public RandomRequestLimitInterceptor() {
+        this(5, 10, Duration.ofSeconds(30), Duration.ofSeconds(90));
+    }
+
+    /**
+     * Picks the request limit and the backoff once, uniformly from the given ranges. Equal bounds pin the value.
+     */
+    public RandomRequestLimitInterceptor(int minRequests, int maxRequests, Duration minBackoff, Duration maxBackoff) {
+        this.limit = minRequests >= maxRequests
+                ? minRequests
+                : RandomGenerator.getDefault().nextInt(minRequests, maxRequests);
+        this.backoff = minBackoff.compareTo(maxBackoff) >= 0
+                ? minBackoff
+                : Duration.ofMillis(
+                        RandomGenerator.getDefault().nextLong(minBackoff.toMillis(), maxBackoff.toMillis()));
+    }
+
     @Override
     public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
-        if (requestLimit.get().getCount() >= REQUEST_LIMIT) {
-            if (Instant.now()
-                    .minus(REQUEST_BACKOFF_DURATION)
-                    .isBefore(requestLimit.get().getLastRequested())) {
+        if (requestLimit.get().getCount() >= limit) {
+            if (Instant.now().minus(backoff).isBefore(requestLimit.get().getLastRequested())) {
                 response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
                 return false;
             }
-            if (Instant.now()
-                    .minus(REQUEST_BACKOFF_DURATION)
-                    .isAfter(requestLimit.get().getLastRequested())) {
+            if (Instant.now().minus(backoff).isAfter(requestLimit.get().getLastRequested())) {
                 requestLimit.set(RequestLimit.init());
             }
         } else {
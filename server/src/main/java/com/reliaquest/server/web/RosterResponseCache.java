@@ -0,0 +1,122 @@
+package com.reliaquest.server.web;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.reliaquest.server.model.Response;
+import com.reliaquest.server.service.MockEmployeeService;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.zip.GZIPOutputStream;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * The serialized body of the full roster response, built once per roster version and served as is until a write
+ * moves the version on. The gzip form is compressed the first time a client that accepts it asks, so a read is a
+ * version check and a buffer write rather than a pass of Jackson (and the compressor) over every employee.
+ */
+@Slf4j
+@Component
+public class RosterResponseCache {
+
+    private final MockEmployeeService mockEmployeeService;
+    private final ObjectMapper objectMapper;
+
+    @Getter
+    private final boolean enabled;
+
+    private volatile SerializedRoster current;
+
+    public RosterResponseCache(
+            MockEmployeeService mockEmployeeService,
+            ObjectMapper objectMapper,
+            @Value("${mock.response-cache.enabled:true}") boolean enabled) {
+        this.mockEmployeeService = mockEmployeeService;
+        this.objectMapper = objectMapper;
+        this.enabled = enabled;
+    }
+
+    /**
+     * Returns the serialized roster at the current version, serializing it if a write has happened since the last
+     * call.
+     */
+    public SerializedRoster get() {
+        final var cached = current;
+        if (cached != null && cached.version().equals(mockEmployeeService.getRosterVersion())) {
+            return cached;
+        }
+        synchronized (this) {
+            // another reader may have serialized this version while we waited
+            final var latest = current;
+            if (latest != null && latest.version().equals(mockEmployeeService.getRosterVersion())) {
+                return latest;
+            }
+            final long startedAt = System.nanoTime();
+            final var roster = mockEmployeeService.getRoster();
+            final byte[] body;
+            try {
+                body = objectMapper.writeValueAsBytes(Response.handledWith(roster.employees()));
+            } catch (JsonProcessingException e) {
+                throw new IllegalStateException("Could not serialize the roster", e);
+            }
+            current = new SerializedRoster(roster.version(), body);
+            log.debug(
+                    "Serialized {} employees at version {} into {} bytes in {} µs",
+                    roster.employees().size(),
+                    roster.version(),
+                    body.length,
+                    (System.nanoTime() - startedAt) / 1_000);
+            return current;
+        }
+    }
+
+    /**
+     * A roster response body. The arrays are written to responses as they are and must not be modified.
+     */
+    public static final class SerializedRoster {
+
+        private final String version;
+
+        private final byte[] body;
+        private volatile byte[] gzippedBody;
+
+        private SerializedRoster(String version, byte[] body) {
+            this.version = version;
+            this.body = body;
+        }
+
+        public String version() {
+            return version;
+        }
+
+        public byte[] body() {
+            return body;
+        }
+
+        public byte[] gzippedBody() {
+            var gzipped = gzippedBody;
+            if (gzipped == null) {
+                synchronized (this) {
+                    gzipped = gzippedBody;
+                    if (gzipped == null) {
+                        gzippedBody = gzipped = gzip(body);
+                    }
+                }
+            }
+            return gzipped;
+        }
+
+        private static byte[] gzip(byte[] bytes) {
+            final var out = new ByteArrayOutputStream(Math.max(bytes.length / 4, 64));
+            try (var gzip = new GZIPOutputStream(out, 64 * 1024)) {
+                gzip.write(bytes);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            return out.toByteArray();
+        }
+    }
+}
@@ -0,0 +1,42 @@
+package com.reliaquest.server.config;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.reliaquest.server.model.MockEmployee;
+import java.util.List;
+import java.util.Locale;
+import java.util.stream.Collectors;
+import org.junit.jupiter.api.Test;
+
+class MockEmployeeSeederTest {
+
+    // spans several chunks, the last one partial
+    private static final int COUNT = 10_000;
+
+    @Test
+    void generate_shouldBeReproducibleForTheSameSeed() {
+        List<MockEmployee> first = new MockEmployeeSeeder(Locale.US, 42).generate(COUNT);
+        List<MockEmployee> second = new MockEmployeeSeeder(Locale.US, 42).generate(COUNT);
+        List<MockEmployee> other = new MockEmployeeSeeder(Locale.US, 43).generate(COUNT);
+
+        assertEquals(COUNT, first.size());
+        assertEquals(first, second);
+        assertNotEquals(first, other);
+    }
+
+    @Test
+    void generate_shouldFillEveryField() {
+        List<MockEmployee> employees = new MockEmployeeSeeder(Locale.US, 7).generate(COUNT);
+
+        assertEquals(COUNT, employees.stream().map(MockEmployee::getId).collect(Collectors.toSet()).size());
+        for (MockEmployee employee : employees) {
+            assertEquals(4, employee.getId().version());
+            assertEquals(2, employee.getId().variant());
+            assertNotNull(employee.getName());
+            assertNotNull(employee.getTitle());
+            assertTrue(employee.getSalary() >= 30000 && employee.getSalary() <= 500000);
+            assertTrue(employee.getAge() >= 16 && employee.getAge() <= 70);
+            assertTrue(employee.getEmail().endsWith("@company.com"));
+        }
+    }
+}
@@ -0,0 +1,171 @@
+package com.reliaquest.server.controller;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.reliaquest.server.model.DeleteMockEmployeeInput;
+import com.reliaquest.server.model.MockEmployee;
+import com.reliaquest.server.service.MockEmployeeService;
+import com.reliaquest.server.web.RosterResponseCache;
+import java.util.List;
+import java.util.Locale;
+import java.util.UUID;
+import java.util.stream.IntStream;
+import net.datafaker.Faker;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+class MockEmployeeControllerTest {
+
+    private final List<MockEmployee> employees = employees(20);
+    private final MockEmployeeService mockEmployeeService = new MockEmployeeService(new Faker(), employees);
+
+    private MockMvc mockMvc(boolean responseCache) {
+        return MockMvcBuilders.standaloneSetup(new MockEmployeeController(
+                        mockEmployeeService,
+                        new RosterResponseCache(mockEmployeeService, new ObjectMapper(), responseCache)))
+                .build();
+    }
+
+    @Test
+    void getEmployees_shouldAnswerNotModifiedUntilAWriteChangesTheRoster() throws Exception {
+        MockMvc mockMvc = mockMvc(true);
+        String etag = mockMvc.perform(get("/api/v1/employee"))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, etag()))
+                .andReturn()
+                .getResponse()
+                .getHeader(HttpHeaders.ETAG);
+
+        mockMvc.perform(get("/api/v1/employee").header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string(HttpHeaders.ETAG, etag))
+                .andExpect(header().string(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING))
+                .andExpect(content().bytes(new byte[0]));
+
+        mockMvc.perform(delete("/api/v1/employee")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"name\":\"Employee 0\"}"))
+                .andExpect(status().isOk());
+
+        mockMvc.perform(get("/api/v1/employee").header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, etag()))
+                .andExpect(jsonPath("$.data.length()").value(employees.size() - 1));
+    }
+
+    @Test
+    void getEmployees_shouldCompareIfNoneMatchWeakly() throws Exception {
+        MockMvc mockMvc = mockMvc(true);
+        String version = mockEmployeeService.getRosterVersion();
+
+        for (String ifNoneMatch : List.of(
+                "W/\"" + version + "\"",
+                "\"" + version + "\"",
+                "*",
+                "\"0-0\", W/\"" + version + "\"",
+                "W/\"0-0\",\"" + version + "\"")) {
+            mockMvc.perform(get("/api/v1/employee").header(HttpHeaders.IF_NONE_MATCH, ifNoneMatch))
+                    .andExpect(status().isNotModified());
+        }
+        for (String ifNoneMatch : List.of("W/\"0-0\"", "\"0-0\", W/\"1-1\"", version)) {
+            mockMvc.perform(get("/api/v1/employee").header(HttpHeaders.IF_NONE_MATCH, ifNoneMatch))
+                    .andExpect(status().isOk());
+        }
+    }
+
+    @Test
+    void getEmployees_shouldVaryNotModifiedOnAcceptEncodingOnlyForTheCachedFullRoster() throws Exception {
+        mockMvc(true)
+                .perform(get("/api/v1/employee").param("limit", "2").header(HttpHeaders.IF_NONE_MATCH, etag()))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string(HttpHeaders.ETAG, etag()))
+                .andExpect(header().doesNotExist(HttpHeaders.VARY));
+        mockMvc(false)
+                .perform(get("/api/v1/employee").header(HttpHeaders.IF_NONE_MATCH, etag()))
+                .andExpect(status().isNotModified())
+                .andExpect(header().doesNotExist(HttpHeaders.VARY));
+        // a cursor addresses a page of its own version, so If-None-Match does not apply
+        String cursor = mockEmployeeService.getRosterPage(null, 2).orElseThrow().nextCursor();
+        mockMvc(true)
+                .perform(get("/api/v1/employee")
+                        .param("limit", "2")
+                        .param("cursor", cursor)
+                        .header(HttpHeaders.IF_NONE_MATCH, etag()))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    void getEmployees_shouldAnswerGoneForCursorsThatNoLongerNameAPage() throws Exception {
+        MockMvc mockMvc = mockMvc(true);
+        String cursor = mockMvc.perform(get("/api/v1/employee").param("limit", "2"))
+                .andExpect(status().isOk())
+                .andExpect(header().string(MockEmployeeController.TOTAL_COUNT_HEADER, "20"))
+                .andReturn()
+                .getResponse()
+                .getHeader(MockEmployeeController.NEXT_CURSOR_HEADER);
+        mockMvc.perform(get("/api/v1/employee").param("limit", "2").param("cursor", cursor))
+                .andExpect(status().isOk());
+        mockMvc.perform(get("/api/v1/employee").param("limit", "2").param("cursor", "garbage"))
+                .andExpect(status().isGone());
+        mockMvc.perform(get("/api/v1/employee")
+                        .param("limit", "2")
+                        .param("cursor", cursor.substring(0, cursor.indexOf(':')) + ":-2"))
+                .andExpect(status().isGone());
+
+        // paging through four newer versions evicts the oldest one
+        for (int i = 0; i < 4; i++) {
+            mockEmployeeService.delete(deleteInput(employees.get(i).getName()));
+            mockMvc.perform(get("/api/v1/employee").param("limit", "2")).andExpect(status().isOk());
+        }
+
+        mockMvc.perform(get("/api/v1/employee").param("limit", "2").param("cursor", cursor))
+                .andExpect(status().isGone())
+                .andExpect(jsonPath("$.status").value("Failed to process request."));
+    }
+
+    @Test
+    void getChanges_shouldAnswerGoneWhenTheChangesAreNotAvailable() throws Exception {
+        MockMvc mockMvc = mockMvc(true);
+        String since = mockEmployeeService.getRosterVersion();
+        mockEmployeeService.delete(deleteInput(employees.get(0).getName()));
+
+        mockMvc.perform(get("/api/v1/employee/changes").param("since", since))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.version").value(mockEmployeeService.getRosterVersion()))
+                .andExpect(jsonPath("$.data.changes[0].type").value("DELETED"))
+                .andExpect(jsonPath("$.data.changes[0].employee.employee_name").value("Employee 0"));
+        mockMvc.perform(get("/api/v1/employee/changes").param("since", "0-0"))
+                .andExpect(status().isGone())
+                .andExpect(jsonPath("$.status").value("Failed to process request."));
+        mockMvc.perform(get("/api/v1/employee/changes").param("since", "garbage"))
+                .andExpect(status().isGone());
+    }
+
+    private String etag() {
+        return "W/\"" + mockEmployeeService.getRosterVersion() + "\"";
+    }
+
+    private static DeleteMockEmployeeInput deleteInput(String name) {
+        DeleteMockEmployeeInput input = new DeleteMockEmployeeInput();
+        input.setName(name);
+        return input;
+    }
+
+    private static List<MockEmployee> employees(int count) {
+        return IntStream.range(0, count)
+                .mapToObj(i -> MockEmployee.builder()
+                        .id(UUID.randomUUID())
+                        .name("Employee " + i)
+                        .salary(50_000 + i)
+                        .age(30)
+                        .title("Engineer")
+                        .email(("employee." + i).toLowerCase(Locale.ROOT) + "@company.com")
+                        .build())
+                .toList();
+    }
+}
@@ -0,0 +1,175 @@
+package com.reliaquest.server.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.reliaquest.server.model.MockEmployee;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.Locale;
+import java.util.UUID;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class MockEmployeeJournalTest {
+
+    private static final int SEGMENT_SIZE = 64 * 1024;
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void recover_shouldRestoreRosterAcrossSegmentsAndCompactions() throws IOException {
+        MockEmployeeJournal journal = new MockEmployeeJournal(directory, SEGMENT_SIZE, 100);
+        assertFalse(journal.hasState());
+        assertTrue(journal.recover().isEmpty());
+        MockEmployeeStore store = open(journal, employees("Seed", 10));
+        List<MockEmployee> created = employees("Employee", 1_000);
+        created.forEach(store::add);
+        for (int i = 0; i < created.size(); i += 3) {
+            assertTrue(store.removeByName(created.get(i).getName()).isPresent());
+        }
+        journal.close();
+
+        MockEmployeeJournal reopened = new MockEmployeeJournal(directory, SEGMENT_SIZE, 100);
+        assertTrue(reopened.hasState());
+        MockEmployeeStore.Snapshot recovered = reopened.recover().orElseThrow();
+        assertEquals(store.version(), recovered.version());
+        assertEquals(store.snapshot().employees(), recovered.employees());
+
+        // the recovered store keeps numbering versions where the previous run stopped
+        MockEmployeeStore restarted =
+                new MockEmployeeStore(recovered.employees(), recovered.version(), reopened::append);
+        reopened.open(restarted::snapshot);
+        MockEmployee late = employees("Late", 1).get(0);
+        restarted.add(late);
+        reopened.close();
+
+        MockEmployeeStore.Snapshot again = new MockEmployeeJournal(directory, SEGMENT_SIZE, 100)
+                .recover()
+                .orElseThrow();
+        assertEquals(store.version() + 1, again.version());
+        assertEquals(late, again.employees().get(again.employees().size() - 1));
+    }
+
+    @Test
+    void recover_shouldReplaySegmentsInOrderWhenEveryAppendRolls() throws IOException {
+        // rolling faster than spares are prepared mixes prepared segments with ones created on the commit path
+        MockEmployeeJournal journal = new MockEmployeeJournal(directory, SEGMENT_SIZE, 1);
+        MockEmployeeStore store = open(journal, List.of());
+        List<MockEmployee> created = employees("Employee", 300);
+        created.forEach(store::add);
+        for (int i = 0; i < created.size(); i += 2) {
+            assertTrue(store.removeByName(created.get(i).getName()).isPresent());
+        }
+        journal.close();
+
+        MockEmployeeStore.Snapshot recovered = new MockEmployeeJournal(directory, SEGMENT_SIZE, 1)
+                .recover()
+                .orElseThrow();
+        assertEquals(store.version(), recovered.version());
+        assertEquals(store.snapshot().employees(), recovered.employees());
+    }
+
+    @Test
+    void recover_shouldStopAtTornRecord() throws IOException {
+        MockEmployeeJournal journal = new MockEmployeeJournal(directory, SEGMENT_SIZE, 100);
+        MockEmployeeStore store = open(journal, List.of());
+        List<MockEmployee> created = employees("Employee", 3);
+        created.forEach(store::add);
+        journal.close();
+
+        corrupt(segments().get(0), 2);
+
+        MockEmployeeStore.Snapshot recovered = new MockEmployeeJournal(directory, SEGMENT_SIZE, 100)
+                .recover()
+                .orElseThrow();
+        assertEquals(2, recovered.version());
+        assertEquals(created.subList(0, 2), recovered.employees());
+    }
+
+    @Test
+    void recover_shouldCutTheLogAtATornRecordInAnEarlierSegment() throws IOException {
+        MockEmployeeJournal journal = new MockEmployeeJournal(directory, SEGMENT_SIZE, 10);
+        MockEmployeeStore store = new MockEmployeeStore(List.of(), 0, journal::append);
+        // compacting to the empty roster keeps every segment on disk
+        MockEmployeeStore.Snapshot empty = store.snapshot();
+        journal.open(() -> empty);
+        List<MockEmployee> created = employees("Employee", 30);
+        created.forEach(store::add);
+        journal.close();
+        List<Path> segments = segments();
+        assertEquals(3, segments.size());
+        corrupt(segments.get(1), 2);
+
+        // the third segment replays cleanly, but applying it would skip versions 13 to 20
+        MockEmployeeJournal reopened = new MockEmployeeJournal(directory, SEGMENT_SIZE, 10);
+        MockEmployeeStore.Snapshot recovered = reopened.recover().orElseThrow();
+        assertEquals(12, recovered.version());
+        assertEquals(created.subList(0, 12), recovered.employees());
+        assertEquals(segments.subList(0, 2), segments());
+
+        // segments written after the cut are replayed on the next start
+        MockEmployeeStore restarted =
+                new MockEmployeeStore(recovered.employees(), recovered.version(), reopened::append);
+        reopened.open(restarted::snapshot);
+        MockEmployee late = employees("Late", 1).get(0);
+        restarted.add(late);
+        reopened.close();
+
+        MockEmployeeStore.Snapshot again = new MockEmployeeJournal(directory, SEGMENT_SIZE, 10)
+                .recover()
+                .orElseThrow();
+        assertEquals(13, again.version());
+        assertEquals(restarted.snapshot().employees(), again.employees());
+    }
+
+    private List<Path> segments() throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.filter(path -> path.getFileName().toString().startsWith("log-"))
+                    .sorted()
+                    .toList();
+        }
+    }
+
+    /**
+     * Flips a byte inside the {@code index}-th record of {@code segment}, so it no longer matches its CRC32.
+     */
+    private static void corrupt(Path segment, int index) throws IOException {
+        try (FileChannel channel = FileChannel.open(segment, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            ByteBuffer segmentBuffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, channel.size());
+            // skip the header and the records before it
+            int position = Integer.BYTES;
+            for (int i = 0; i < index; i++) {
+                position += segmentBuffer.getInt(position) + 2 * Integer.BYTES;
+            }
+            int corrupted = position + Integer.BYTES + Long.BYTES + 1;
+            segmentBuffer.put(corrupted, (byte) (segmentBuffer.get(corrupted) ^ 1));
+        }
+    }
+
+    private static MockEmployeeStore open(MockEmployeeJournal journal, List<MockEmployee> seed) throws IOException {
+        MockEmployeeStore store = new MockEmployeeStore(seed, 0, journal::append);
+        journal.open(store::snapshot);
+        return store;
+    }
+
+    private static List<MockEmployee> employees(String prefix, int count) {
+        return IntStream.range(0, count)
+                .mapToObj(i -> MockEmployee.builder()
+                        .id(UUID.randomUUID())
+                        .name(prefix + " " + i)
+                        .salary(i % 7 == 0 ? null : 50_000 + i)
+                        .age(30)
+                        .title("Engineer")
+                        .email((prefix + "." + i).toLowerCase(Locale.ROOT) + "@company.com")
+                        .build())
+                .toList();
+    }
+}
@@ -0,0 +1,175 @@
+package com.reliaquest.server.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.reliaquest.server.model.CreateMockEmployeeInput;
+import com.reliaquest.server.model.DeleteMockEmployeeInput;
+import com.reliaquest.server.model.MockEmployee;
+import com.reliaquest.server.model.MockEmployeeChange;
+import com.reliaquest.server.model.MockEmployeeChanges;
+import com.reliaquest.server.model.MockEmployeeRosterPage;
+import java.util.List;
+import java.util.Locale;
+import java.util.UUID;
+import java.util.stream.IntStream;
+import net.datafaker.Faker;
+import org.junit.jupiter.api.Test;
+
+class MockEmployeeServiceTest {
+
+    @Test
+    void getRosterPage_shouldCutLaterPagesByOffsetFromTheFirstPagesVersion() {
+        List<MockEmployee> employees = employees(5);
+        MockEmployeeService service = new MockEmployeeService(new Faker(), employees);
+
+        MockEmployeeRosterPage first = service.getRosterPage(null, 2).orElseThrow();
+        String version = first.version();
+        assertEquals(employees.subList(0, 2), first.employees());
+        assertEquals(5, first.total());
+        assertEquals(version + ":2", first.nextCursor());
+
+        // a write after the first page does not show in the later pages of its version
+        assertTrue(service.delete(deleteInput(employees.get(4).getName())));
+        MockEmployeeRosterPage last = service.getRosterPage(version + ":4", 2).orElseThrow();
+        assertEquals(version, last.version());
+        assertEquals(employees.subList(4, 5), last.employees());
+        assertNull(last.nextCursor());
+        assertEquals(
+                employees.subList(2, 4),
+                service.getRosterPage(first.nextCursor(), 2).orElseThrow().employees());
+    }
+
+    @Test
+    void getRosterPage_shouldRejectMalformedCursorsAndNegativeOffsets() {
+        MockEmployeeService service = new MockEmployeeService(new Faker(), employees(5));
+        String version = service.getRosterPage(null, 2).orElseThrow().version();
+
+        assertTrue(service.getRosterPage("", 2).isEmpty());
+        assertTrue(service.getRosterPage("garbage", 2).isEmpty());
+        assertTrue(service.getRosterPage(version, 2).isEmpty());
+        assertTrue(service.getRosterPage(version + ":", 2).isEmpty());
+        assertTrue(service.getRosterPage(version + ":two", 2).isEmpty());
+        assertTrue(service.getRosterPage(":2", 2).isEmpty());
+        assertTrue(service.getRosterPage(version + ":-2", 2).isEmpty());
+        assertTrue(service.getRosterPage("0-0:2", 2).isEmpty());
+        assertTrue(service.getRosterPage(version + ":2", 2).isPresent());
+    }
+
+    @Test
+    void getRosterPage_shouldExpireTheOldestPagedRosterOnceTooManyAreKept() {
+        List<MockEmployee> employees = employees(20);
+        MockEmployeeService service = new MockEmployeeService(new Faker(), employees);
+        String oldest = service.getRosterPage(null, 2).orElseThrow().nextCursor();
+
+        // four more versions, each paged through
+        for (int i = 0; i < 4; i++) {
+            assertTrue(service.delete(deleteInput(employees.get(i).getName())));
+            assertTrue(service.getRosterPage(null, 2).isPresent());
+            if (i < 3) {
+                assertTrue(service.getRosterPage(oldest, 2).isPresent());
+            }
+        }
+
+        assertTrue(service.getRosterPage(oldest, 2).isEmpty());
+    }
+
+    @Test
+    void getRosterPage_shouldExpireAPagedRosterOnceTooManyChangesWereMadeAfterIt() {
+        List<MockEmployee> employees = employees(10_005);
+        MockEmployeeService service = new MockEmployeeService(new Faker(), employees);
+        String cursor = service.getRosterPage(null, 2).orElseThrow().nextCursor();
+
+        for (int i = 0; i < 10_000; i++) {
+            assertTrue(service.delete(deleteInput(employees.get(i).getName())));
+        }
+        assertTrue(service.getRosterPage(cursor, 2).isPresent());
+        assertTrue(service.delete(deleteInput(employees.get(10_000).getName())));
+
+        assertTrue(service.getRosterPage(cursor, 2).isEmpty());
+    }
+
+    @Test
+    void changesSince_shouldReturnTheChangesAfterAVersionOfThisRun() {
+        List<MockEmployee> employees = employees(5);
+        MockEmployeeService service = new MockEmployeeService(new Faker(), employees);
+        String since = service.getRosterVersion();
+        assertTrue(service.delete(deleteInput(employees.get(0).getName())));
+        MockEmployee created = service.create(createInput("Jane Doe"));
+
+        MockEmployeeChanges changes = service.changesSince(since).orElseThrow();
+
+        assertEquals(service.getRosterVersion(), changes.version());
+        assertEquals(2, changes.changes().size());
+        assertEquals(MockEmployeeChange.Type.DELETED, changes.changes().get(0).type());
+        assertEquals(employees.get(0), changes.changes().get(0).employee());
+        assertEquals(MockEmployeeChange.Type.CREATED, changes.changes().get(1).type());
+        assertEquals(created, changes.changes().get(1).employee());
+        MockEmployeeChanges none = service.changesSince(changes.version()).orElseThrow();
+        assertEquals(changes.version(), none.version());
+        assertTrue(none.changes().isEmpty());
+    }
+
+    @Test
+    void changesSince_shouldRejectVersionsFromAnotherRunOrTheFutureAndMalformedOnes() {
+        MockEmployeeService service = new MockEmployeeService(new Faker(), employees(5));
+        String current = service.getRosterVersion();
+        String generation = current.substring(0, current.lastIndexOf('-'));
+
+        assertTrue(service.changesSince(current).isPresent());
+        assertTrue(service.changesSince((Long.parseLong(generation) - 1) + "-0").isEmpty());
+        assertTrue(service.changesSince(generation + "-1").isEmpty());
+        assertTrue(service.changesSince(generation).isEmpty());
+        assertTrue(service.changesSince(generation + "-").isEmpty());
+        assertTrue(service.changesSince(generation + "-one").isEmpty());
+        assertTrue(service.changesSince("-0").isEmpty());
+        assertTrue(service.changesSince("").isEmpty());
+    }
+
+    @Test
+    void changesSince_shouldExpireVersionsOlderThanTheRetainedChanges() {
+        List<MockEmployee> employees = employees(10_005);
+        MockEmployeeService service = new MockEmployeeService(new Faker(), employees);
+        String since = service.getRosterVersion();
+        for (int i = 0; i < 10_000; i++) {
+            assertTrue(service.delete(deleteInput(employees.get(i).getName())));
+        }
+        assertEquals(10_000, service.changesSince(since).orElseThrow().changes().size());
+        long oldestRetained = service.changesSince(since).orElseThrow().changes().get(0).version();
+
+        assertTrue(service.delete(deleteInput(employees.get(10_000).getName())));
+
+        assertTrue(service.changesSince(since).isEmpty());
+        String generation = since.substring(0, since.lastIndexOf('-'));
+        MockEmployeeChanges retained = service.changesSince(generation + "-" + oldestRetained).orElseThrow();
+        assertEquals(10_000, retained.changes().size());
+        assertEquals(employees.get(10_000), retained.changes().get(9_999).employee());
+    }
+
+    private static CreateMockEmployeeInput createInput(String name) {
+        CreateMockEmployeeInput input = new CreateMockEmployeeInput();
+        input.setName(name);
+        input.setSalary(60_000);
+        input.setAge(30);
+        input.setTitle("Engineer");
+        return input;
+    }
+
+    private static DeleteMockEmployeeInput deleteInput(String name) {
+        DeleteMockEmployeeInput input = new DeleteMockEmployeeInput();
+        input.setName(name);
+        return input;
+    }
+
+    private static List<MockEmployee> employees(int count) {
+        return IntStream.range(0, count)
+                .mapToObj(i -> MockEmployee.builder()
+                        .id(UUID.randomUUID())
+                        .name("Employee " + i)
+                        .salary(50_000 + i)
+                        .age(30)
+                        .title("Engineer")
+                        .email(("employee." + i).toLowerCase(Locale.ROOT) + "@company.com")
+                        .build())
+                .toList();
+    }
+}
@@ -0,0 +1,272 @@
+package com.reliaquest.server.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.reliaquest.server.model.MockEmployee;
+import com.reliaquest.server.model.MockEmployeeChange;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Optional;
+import java.util.Queue;
+import java.util.Random;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.Test;
+
+class MockEmployeeStoreTest {
+
+    private static final int INITIAL = 1_000;
+    private static final int WRITERS = 64;
+    private static final int READERS = 4;
+    private static final int CREATES_PER_WRITER = 100;
+    private static final int DELETES_PER_WRITER = CREATES_PER_WRITER / 2;
+    // kept under the retained change log so changesSince(0) still covers every write
+    private static final int CHANGES = WRITERS * (CREATES_PER_WRITER + DELETES_PER_WRITER);
+
+    @Test
+    void removeByName_shouldRemoveFirstNamesakeIgnoringCase() {
+        MockEmployee first = employee("Jane Doe");
+        MockEmployee second = employee("JANE DOE");
+        MockEmployeeStore store = new MockEmployeeStore(List.of(employee("John Doe"), first, second));
+
+        assertEquals(first, store.removeByName("jane doe").orElseThrow());
+        assertTrue(store.findById(first.getId()).isEmpty());
+        assertEquals(second, store.findById(second.getId()).orElseThrow());
+        assertEquals(second, store.removeByName("Jane Doe").orElseThrow());
+        assertTrue(store.removeByName("Jane Doe").isEmpty());
+        assertEquals(2, store.version());
+        assertEquals(1, store.snapshot().employees().size());
+    }
+
+    @Test
+    void findById_shouldFindLiveEmployeesOnly() {
+        MockEmployee seeded = employee("John Doe");
+        MockEmployee added = employee("Jane Doe");
+        MockEmployee unnamed = employee("Unnamed");
+        unnamed.setName(null);
+        MockEmployeeStore store = new MockEmployeeStore(List.of(seeded));
+        store.add(added);
+        store.add(unnamed);
+
+        assertEquals(seeded, store.findById(seeded.getId()).orElseThrow());
+        assertEquals(added, store.findById(added.getId()).orElseThrow());
+        assertEquals(unnamed, store.findById(unnamed.getId()).orElseThrow());
+        assertTrue(store.findById(UUID.randomUUID()).isEmpty());
+
+        store.removeByName("JOHN DOE");
+
+        assertTrue(store.findById(seeded.getId()).isEmpty());
+        assertEquals(2, store.size());
+    }
+
+    @Test
+    void removeByName_shouldFollowInsertionOrderAcrossSeededAndAddedNamesakes() {
+        MockEmployee seeded = employee("Jane Doe");
+        MockEmployee lower = employee("jane doe");
+        MockEmployee upper = employee("JANE DOE");
+        MockEmployeeStore store = new MockEmployeeStore(List.of(seeded, employee("John Doe")));
+        store.add(lower);
+        store.add(employee("Alice Smith"));
+        store.add(upper);
+
+        assertEquals(seeded, store.removeByName("JANE doe").orElseThrow());
+        assertEquals(lower, store.removeByName("Jane Doe").orElseThrow());
+        store.add(employee("Jane DOE"));
+        assertEquals(upper, store.removeByName("jane doe").orElseThrow());
+        assertEquals(
+                List.of("John Doe", "Alice Smith", "Jane DOE"),
+                store.snapshot().employees().stream().map(MockEmployee::getName).toList());
+    }
+
+    @Test
+    void removeByName_shouldRemoveTheEmployeeAListScanWouldFind() {
+        // case variants of a few names; dotless i (\u0131) only matches I, and so i, through upper case
+        List<String> names =
+                List.of("Jane Doe", "JANE DOE", "jane doe", "Kim L\u0131", "KIM LI", "kim li", "John Smith");
+        Random random = new Random(17);
+        MockEmployeeStore store = new MockEmployeeStore(IntStream.range(0, 50)
+                .mapToObj(i -> employee(names.get(random.nextInt(names.size()))))
+                .toList());
+
+        for (int i = 0; i < 1_000; i++) {
+            String name = names.get(random.nextInt(names.size()));
+            if (random.nextBoolean()) {
+                store.add(employee(name));
+                continue;
+            }
+            List<MockEmployee> roster = store.snapshot().employees();
+            Optional<MockEmployee> scanned = roster.stream()
+                    .filter(employee -> employee.getName().equalsIgnoreCase(name))
+                    .findFirst();
+
+            assertEquals(scanned, store.removeByName(name), "removing " + name + " at step " + i);
+        }
+
+        List<MockEmployee> roster = store.snapshot().employees();
+        assertEquals(roster.size(), store.size());
+        roster.forEach(employee -> assertEquals(employee, store.findById(employee.getId()).orElseThrow()));
+    }
+
+    @Test
+    void view_shouldPageTheRosterAtItsVersionWhileWritesLand() {
+        List<MockEmployee> seed = IntStream.range(0, 1_000)
+                .mapToObj(i -> employee("Seed " + i))
+                .toList();
+        MockEmployeeStore store = new MockEmployeeStore(seed);
+        MockEmployeeStore.View view = store.view();
+        for (int i = 0; i < seed.size(); i += 3) {
+            store.removeByName(seed.get(i).getName());
+            store.add(employee("Late " + i));
+        }
+
+        assertEquals(0, view.version());
+        assertEquals(seed.size(), view.size());
+        for (int limit : new int[] {1, 100, 300, 1_000}) {
+            List<MockEmployee> paged = new ArrayList<>();
+            for (int offset = 0; offset < view.size(); offset += limit) {
+                paged.addAll(view.page(offset, limit).orElseThrow());
+            }
+            assertEquals(seed, paged, "limit " + limit);
+        }
+        assertEquals(seed.subList(257, 600), view.page(257, 343).orElseThrow());
+        assertEquals(List.of(), view.page(seed.size(), 10).orElseThrow());
+
+        view.close();
+
+        assertTrue(view.page(0, 10).isEmpty());
+        assertEquals(store.snapshot().employees(), store.view().page(0, 2_000).orElseThrow());
+    }
+
+    @Test
+    void add_shouldHandChangesToTheJournalOutsideTheNamesBin() throws Exception {
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        List<Long> journaled = new ArrayList<>();
+        long[] versionWhileJournaling = new long[1];
+        MockEmployeeStore[] store = new MockEmployeeStore[1];
+        store[0] = new MockEmployeeStore(List.of(), 0, change -> {
+            if (change.version() == 1) {
+                // a namesake written while the first change is being journaled commits without waiting for it
+                executor.execute(() -> store[0].add(employee("JANE DOE")));
+                long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+                while (store[0].version() < 2 && System.nanoTime() < deadline) {
+                    Thread.onSpinWait();
+                }
+                versionWhileJournaling[0] = store[0].version();
+            }
+            journaled.add(change.version());
+        });
+        try {
+            store[0].add(employee("Jane Doe"));
+        } finally {
+            executor.shutdown();
+            assertTrue(executor.awaitTermination(10, TimeUnit.SECONDS));
+        }
+
+        assertEquals(2, versionWhileJournaling[0]);
+        assertEquals(List.of(1L, 2L), journaled);
+    }
+
+    @Test
+    void concurrentWrites_shouldNotLoseUpdatesOrTearSnapshots() throws Exception {
+        Queue<MockEmployeeChange> journaled = new ConcurrentLinkedQueue<>();
+        MockEmployeeStore store = new MockEmployeeStore(
+                IntStream.range(0, INITIAL).mapToObj(i -> employee("Seed " + i)).toList(), 0, journaled::add);
+        ExecutorService executor = Executors.newFixedThreadPool(WRITERS + READERS);
+        CountDownLatch start = new CountDownLatch(1);
+        AtomicBoolean writing = new AtomicBoolean(true);
+        Queue<long[]> observed = new ConcurrentLinkedQueue<>();
+
+        List<Future<List<MockEmployee>>> writers = new ArrayList<>();
+        List<Future<?>> readers = new ArrayList<>();
+        try {
+            for (int w = 0; w < WRITERS; w++) {
+                int writer = w;
+                writers.add(executor.submit(() -> {
+                    start.await();
+                    List<MockEmployee> created = new ArrayList<>();
+                    for (int i = 0; i < CREATES_PER_WRITER; i++) {
+                        MockEmployee employee = employee("Writer " + writer + " Employee " + i);
+                        store.add(employee);
+                        created.add(employee);
+                    }
+                    for (int i = 0; i < CREATES_PER_WRITER; i += 2) {
+                        String name = created.get(i).getName().toUpperCase(Locale.ROOT);
+                        assertEquals(created.get(i), store.removeByName(name).orElseThrow());
+                    }
+                    return created;
+                }));
+            }
+            for (int r = 0; r < READERS; r++) {
+                readers.add(executor.submit(() -> {
+                    start.await();
+                    while (writing.get()) {
+                        MockEmployeeStore.Snapshot snapshot = store.snapshot();
+                        HashSet<UUID> ids = new HashSet<>();
+                        snapshot.employees().forEach(employee -> assertTrue(ids.add(employee.getId())));
+                        observed.add(new long[] {snapshot.version(), snapshot.employees().size()});
+                    }
+                    return null;
+                }));
+            }
+
+            start.countDown();
+            List<List<MockEmployee>> created = new ArrayList<>();
+            for (Future<List<MockEmployee>> writer : writers) {
+                created.add(writer.get(1, TimeUnit.MINUTES));
+            }
+            writing.set(false);
+            for (Future<?> reader : readers) {
+                reader.get(1, TimeUnit.MINUTES);
+            }
+
+            assertEquals(CHANGES, store.version());
+            assertEquals(INITIAL + WRITERS * DELETES_PER_WRITER, store.size());
+            assertEquals(
+                    INITIAL + WRITERS * DELETES_PER_WRITER,
+                    store.snapshot().employees().size());
+            for (List<MockEmployee> employees : created) {
+                for (int i = 0; i < employees.size(); i++) {
+                    assertEquals(i % 2 == 1, store.findById(employees.get(i).getId()).isPresent());
+                }
+            }
+
+            List<MockEmployeeChange> changes = store.changesSince(0).orElseThrow();
+            assertEquals(CHANGES, changes.size());
+            assertEquals(changes, List.copyOf(journaled));
+            // roster size at each version, replayed from the change log
+            int[] sizes = new int[CHANGES + 1];
+            sizes[0] = INITIAL;
+            for (int v = 1; v <= CHANGES; v++) {
+                MockEmployeeChange change = changes.get(v - 1);
+                assertEquals(v, change.version());
+                sizes[v] = sizes[v - 1] + (change.type() == MockEmployeeChange.Type.CREATED ? 1 : -1);
+            }
+            assertFalse(observed.isEmpty());
+            for (long[] snapshot : observed) {
+                assertEquals(sizes[(int) snapshot[0]], snapshot[1], "snapshot at version " + snapshot[0]);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private static MockEmployee employee(String name) {
+        return MockEmployee.builder()
+                .id(UUID.randomUUID())
+                .name(name)
+                .salary(50_000)
+                .age(30)
+                .title("Engineer")
+                .email(name.replace(' ', '.').toLowerCase(Locale.ROOT) + "@company.com")
+                .build();
+    }
+}
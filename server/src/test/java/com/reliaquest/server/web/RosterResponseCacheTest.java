@@ -0,0 +1,59 @@
+package com.reliaquest.server.web;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.reliaquest.server.model.DeleteMockEmployeeInput;
+import com.reliaquest.server.model.MockEmployee;
+import com.reliaquest.server.model.Response;
+import com.reliaquest.server.service.MockEmployeeService;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.util.List;
+import java.util.UUID;
+import java.util.zip.GZIPInputStream;
+import net.datafaker.Faker;
+import org.junit.jupiter.api.Test;
+
+class RosterResponseCacheTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Test
+    void get_shouldReuseTheBodyUntilTheRosterChanges() throws IOException {
+        List<MockEmployee> employees = List.of(employee("Jane Doe"), employee("John Doe"));
+        MockEmployeeService mockEmployeeService = new MockEmployeeService(new Faker(), employees);
+        RosterResponseCache cache = new RosterResponseCache(mockEmployeeService, objectMapper, true);
+
+        RosterResponseCache.SerializedRoster first = cache.get();
+        assertSame(first, cache.get());
+        assertArrayEquals(objectMapper.writeValueAsBytes(Response.handledWith(employees)), first.body());
+        assertArrayEquals(first.body(), gunzip(first.gzippedBody()));
+
+        DeleteMockEmployeeInput delete = new DeleteMockEmployeeInput();
+        delete.setName("Jane Doe");
+        assertTrue(mockEmployeeService.delete(delete));
+
+        RosterResponseCache.SerializedRoster second = cache.get();
+        assertNotEquals(first.version(), second.version());
+        assertEquals(mockEmployeeService.getRosterVersion(), second.version());
+        assertArrayEquals(objectMapper.writeValueAsBytes(Response.handledWith(employees.subList(1, 2))), second.body());
+    }
+
+    private static byte[] gunzip(byte[] gzipped) throws IOException {
+        try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(gzipped))) {
+            return in.readAllBytes();
+        }
+    }
+
+    private static MockEmployee employee(String name) {
+        return MockEmployee.builder()
+                .id(UUID.randomUUID())
+                .name(name)
+                .salary(50_000)
+                .age(30)
+                .title("Engineer")
+                .email(name.replace(' ', '.').toLowerCase() + "@company.com")
+                .build();
+    }
+}